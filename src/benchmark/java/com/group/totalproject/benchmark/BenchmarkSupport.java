@@ -0,0 +1,184 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.TotalProjectApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 성능 측정 공통 기능
+ *  - benchmark 프로필로 애플리케이션 기동 (H2 인메모리 DB)
+ *  - JDBC 배치로 회원 데이터 적재 (수백만 건은 H2 SYSTEM_RANGE로 DB 안에서 생성)
+ *  - 반복 실행하여 지연시간(평균/p50/p99)과 1회당 할당 바이트 측정
+ *  - 여러 스레드로 일정 시간 실행하여 처리량(ops/s) 측정
+ */
+public final class BenchmarkSupport {
+
+    private static final int SEED_BATCH_SIZE = 5_000;
+    private static final long BULK_SEED_CHUNK_SIZE = 1_000_000; // INSERT ... SELECT 1회에 생성할 행 수 (트랜잭션 로그 크기 제한)
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean(); // 스레드별 할당 바이트 측정 (HotSpot 전용)
+
+    private static volatile Object blackhole; // JIT가 결과를 버리고 호출 자체를 제거하지 못하도록 결과 보관
+
+    private BenchmarkSupport() {
+    }
+
+    public static ConfigurableApplicationContext start(String[] args) {
+        SpringApplication application = new SpringApplication(TotalProjectApplication.class);
+        application.setAdditionalProfiles("benchmark");
+        return application.run(args);
+    }
+
+    // 회원 count명 적재 (이미 적재된 수를 제외하고 추가)
+    public static void seedUsers(JdbcTemplate jdbcTemplate, long count) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user", Long.class);
+        long from = existing == null ? 0 : existing;
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long i = from; i < count; i++) {
+            batch.add(new Object[]{"user" + i, (int) (i % 99) + 1});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO user (name, age) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO user (name, age) VALUES (?, ?)", batch);
+        }
+    }
+
+    // 회원 count명 적재 (H2 전용): 행을 애플리케이션에서 만들어 보내지 않고 DB 안에서 생성 → 1,000만 건도 수십 초 안에 적재
+    public static void seedUsersInBulk(JdbcTemplate jdbcTemplate, long count) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user", Long.class);
+        for (long from = existing == null ? 0 : existing; from < count; from += BULK_SEED_CHUNK_SIZE) {
+            long to = Math.min(from + BULK_SEED_CHUNK_SIZE, count) - 1;
+            jdbcTemplate.update("INSERT INTO user (name, age) SELECT CONCAT('user', X), MOD(X, 99) + 1 FROM SYSTEM_RANGE(?, ?)", from, to);
+        }
+    }
+
+    public static Result measure(String name, int warmup, int iterations, Supplier<?> task) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole = task.get();
+        }
+
+        long[] nanos = new long[iterations];
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            blackhole = task.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        Arrays.sort(nanos);
+        return new Result(name, iterations, average(nanos), percentile(nanos, 0.50), percentile(nanos, 0.99), allocated / iterations);
+    }
+
+    // threads개 스레드가 duration 동안 task를 반복 실행한 처리량 (초당 실행 횟수)
+    public static double throughput(int threads, Duration duration, Supplier<?> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        blackhole = task.get();
+                        operations.increment();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("처리량 측정이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("처리량 측정 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return operations.sum() / (duration.toNanos() / 1_000_000_000.0);
+    }
+
+    private static double average(long[] sorted) {
+        return Arrays.stream(sorted).average().orElse(0);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public static void printHeader() {
+        System.out.printf("%-45s %10s %12s %12s %12s %16s%n", "benchmark", "ops", "avg(us)", "p50(us)", "p99(us)", "alloc/op(bytes)");
+    }
+
+    public static class Result { // 측정 결과 1건
+
+        private final String name;
+        private final int iterations;
+        private final double avgNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long bytesPerOp;
+
+        public Result(String name, int iterations, double avgNanos, long p50Nanos, long p99Nanos, long bytesPerOp) {
+            this.name = name;
+            this.iterations = iterations;
+            this.avgNanos = avgNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public double getAvgNanos() {
+            return avgNanos;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getBytesPerOp() {
+            return bytesPerOp;
+        }
+
+        public void print() {
+            System.out.printf("%-45s %10d %12.1f %12.1f %12.1f %16d%n",
+                    name, iterations, avgNanos / 1_000.0, p50Nanos / 1_000.0, p99Nanos / 1_000.0, bytesPerOp);
+        }
+
+    }
+
+}
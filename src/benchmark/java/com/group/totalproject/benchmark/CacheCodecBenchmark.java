@@ -0,0 +1,61 @@
+package com.group.totalproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group.totalproject.cache.codec.CacheCodecMetrics;
+import com.group.totalproject.cache.codec.CompactBinaryRedisSerializer;
+import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.prop.UserCacheProps;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 값 직렬화 비교: JSON(Jackson) vs 이진 포맷(CompactBinaryRedisSerializer)
+ * 회원 페이지 100 / 1,000 / 10,000건에 대해 항목당 바이트와 인코딩/디코딩 시간을 출력한다.
+ * Spring 컨텍스트 없이 실행된다.
+ */
+public class CacheCodecBenchmark {
+
+    private static final int[] PAGE_SIZES = {100, 1_000, 10_000};
+
+    public static void main(String[] args) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules(); // RedisConfig의 ObjectMapper와 같은 설정
+
+        Jackson2JsonRedisSerializer<Object> json = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+        UserCacheProps props = new UserCacheProps();
+        CompactBinaryRedisSerializer binary = new CompactBinaryRedisSerializer(json, props.getCompressionThreshold(), new CacheCodecMetrics(props));
+
+        System.out.printf("%n[캐시 값 직렬화 비교] 압축 임계값: %,d bytes%n", props.getCompressionThreshold());
+        for (int size : PAGE_SIZES) {
+            compare("users size=" + size, users(size), json, binary);
+        }
+    }
+
+    private static void compare(String name, Object value, RedisSerializer<Object> json, RedisSerializer<Object> binary) {
+        byte[] jsonBytes = json.serialize(value);
+        byte[] binaryBytes = binary.serialize(value);
+        int iterations = Math.max(50, 2_000_000 / jsonBytes.length);
+
+        System.out.printf("%n%s → json: %,d bytes, binary: %,d bytes (%.1f%%)%n",
+                name, jsonBytes.length, binaryBytes.length, 100.0 * binaryBytes.length / jsonBytes.length);
+        BenchmarkSupport.printHeader();
+        BenchmarkSupport.measure("json   encode", iterations / 2, iterations, () -> json.serialize(value)).print();
+        BenchmarkSupport.measure("binary encode", iterations / 2, iterations, () -> binary.serialize(value)).print();
+        BenchmarkSupport.measure("json   decode", iterations / 2, iterations, () -> json.deserialize(jsonBytes)).print();
+        BenchmarkSupport.measure("binary decode", iterations / 2, iterations, () -> binary.deserialize(binaryBytes)).print();
+    }
+
+    // 커서 조회 결과와 같이 id 내림차순 페이지
+    private static List<UserResponse> users(int size) {
+        List<UserResponse> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = 1_000_000L - i;
+            users.add(new UserResponse(id, "user" + id, (int) (id % 99) + 1));
+        }
+        return users;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.group.totalproject.benchmark;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 성능 측정용 내장 Redis 서버 (로컬 Redis 없이 실행, 임의 포트 사용)
+ * 실제 redis-server 바이너리를 실행하므로 파이프라인/Lua 스크립트/pub-sub 동작이 운영과 같다.
+ */
+public class EmbeddedRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final int port;
+
+    private EmbeddedRedis(RedisServer server, int port) {
+        this.server = server;
+        this.port = port;
+    }
+
+    public static EmbeddedRedis start() {
+        try {
+            int port = freePort();
+            RedisServer server = new RedisServer(port);
+            server.start();
+            return new EmbeddedRedis(server, port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 Redis를 시작할 수 없습니다.", e);
+        }
+    }
+
+    // 애플리케이션 기동 인자: 내장 Redis 포트로 연결
+    public String portArgument() {
+        return "--spring.data.redis.port=" + port;
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 Redis를 종료할 수 없습니다.", e);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
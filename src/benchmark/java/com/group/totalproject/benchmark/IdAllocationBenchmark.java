@@ -0,0 +1,111 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.domain.book.Book;
+import com.group.totalproject.domain.book.BookRepository;
+import com.group.totalproject.domain.user.User;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistory;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대출 기록 INSERT 처리량: IDENTITY 채번 vs id_sequences(pooled-lo) 채번 + JDBC 배치
+ *  - identity : AUTO_INCREMENT 임시 테이블에 1건씩 INSERT 후 생성된 키 조회 (변경 전 Hibernate IDENTITY 저장 방식과 동일)
+ *  - pooled   : saveAll (ID를 50개 블록으로 미리 할당받고 hibernate.jdbc.batch_size=50으로 배치 전송)
+ * 회원(User)은 IDENTITY를 유지하므로 측정 대상이 아님 (대량 등록은 UserJdbcRepository.saveUsers의 JDBC 배치)
+ * 트랜잭션 1회에 ROWS_PER_TX건씩 저장하고 초당 저장 건수(rows/s)를 출력한다.
+ */
+public class IdAllocationBenchmark {
+
+    private static final int ROWS_PER_TX = 1_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = BenchmarkSupport.start(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            BookRepository bookRepository = context.getBean(BookRepository.class);
+            UserLoanHistoryRepository userLoanHistoryRepository = context.getBean(UserLoanHistoryRepository.class);
+            TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            createIdentityTable(jdbcTemplate);
+            User borrower = userRepository.save(new User("borrower", 20));
+            Book book = bookRepository.save(new Book("benchmark-book"));
+
+            System.out.printf("%n[ID 채번 방식별 INSERT 처리량] 트랜잭션당 %,d건%n", ROWS_PER_TX);
+            BenchmarkSupport.printHeader();
+
+            BenchmarkSupport.Result identityLoans = BenchmarkSupport.measure("identity user_loan_history", WARMUP, ITERATIONS,
+                    () -> tx.execute(status -> insertWithIdentity(jdbcTemplate,
+                            "INSERT INTO bench_identity_loan (user_id, book_id, is_return, loaned_at, returned_at) VALUES (?, ?, TRUE, ?, ?)",
+                            ps -> {
+                                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                                ps.setLong(1, borrower.getId());
+                                ps.setLong(2, book.getId());
+                                ps.setTimestamp(3, now);
+                                ps.setTimestamp(4, now);
+                            })));
+            BenchmarkSupport.Result pooledLoans = BenchmarkSupport.measure("pooled   user_loan_history", WARMUP, ITERATIONS,
+                    () -> tx.execute(status -> {
+                        List<UserLoanHistory> loans = new ArrayList<>(ROWS_PER_TX);
+                        for (int i = 0; i < ROWS_PER_TX; i++) {
+                            UserLoanHistory loan = new UserLoanHistory(borrower, book);
+                            loan.doReturn(); // 반납된 기록으로 저장 (같은 도서의 대출 중 기록은 1건만 허용: uk_user_loan_history_active_book)
+                            loans.add(loan);
+                        }
+                        return userLoanHistoryRepository.saveAll(loans).size();
+                    }));
+
+            identityLoans.print();
+            pooledLoans.print();
+
+            System.out.printf("%n%-30s %15s %15s %10s%n", "entity", "identity(rows/s)", "pooled(rows/s)", "speedup");
+            printThroughput("user_loan_history", identityLoans, pooledLoans);
+        }
+    }
+
+    // 변경 전 스키마와 같은 AUTO_INCREMENT 테이블 (측정 전용)
+    private static void createIdentityTable(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS bench_identity_loan (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_id BIGINT, book_id BIGINT, is_return BOOLEAN, loaned_at TIMESTAMP, returned_at TIMESTAMP)");
+    }
+
+    // IDENTITY: INSERT를 실행해야 ID를 알 수 있으므로 행마다 문장 1회 + 생성 키 조회 (배치 불가)
+    private static int insertWithIdentity(JdbcTemplate jdbcTemplate, String sql, ParameterSetter setter) {
+        for (int i = 0; i < ROWS_PER_TX; i++) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                setter.set(ps);
+                return ps;
+            }, keyHolder);
+        }
+        return ROWS_PER_TX;
+    }
+
+    private static void printThroughput(String entity, BenchmarkSupport.Result identity, BenchmarkSupport.Result pooled) {
+        double identityRows = ROWS_PER_TX / (identity.getAvgNanos() / 1_000_000_000.0);
+        double pooledRows = ROWS_PER_TX / (pooled.getAvgNanos() / 1_000_000_000.0);
+        System.out.printf("%-30s %15.0f %15.0f %9.2fx%n", entity, identityRows, pooledRows, pooledRows / identityRows);
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement ps) throws SQLException;
+    }
+
+}
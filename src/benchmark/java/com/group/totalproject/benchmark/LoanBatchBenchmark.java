@@ -0,0 +1,81 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.domain.book.Book;
+import com.group.totalproject.domain.book.BookRepository;
+import com.group.totalproject.domain.user.User;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.dto.book.request.BookLoanBatchRequest;
+import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.dto.book.request.BookReturnBatchRequest;
+import com.group.totalproject.dto.book.request.BookReturnRequest;
+import com.group.totalproject.service.book.LoanEngine;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 1명이 BOOKS_PER_MEMBER권을 대출 후 반납하는 시간: 건별 요청 vs 일괄 요청
+ *  - single : POST /book/loan, PUT /book/return을 책마다 호출 (요청마다 회원/도서 조회, 대출 중 확인, 트랜잭션 1회)
+ *  - batch  : POST /book/loan/batch, PUT /book/return/batch 1회씩 (IN 조회 + 트랜잭션 1회, INSERT/UPDATE 배치 전송)
+ * 1회 측정 = 대출 + 반납, 권수별 평균/백분위 시간을 출력한다.
+ *
+ * 실행 예) ./gradlew benchmark -PbenchmarkClass=com.group.totalproject.benchmark.LoanBatchBenchmark
+ */
+public class LoanBatchBenchmark {
+
+    private static final int[] BOOKS_PER_MEMBER = {5, 10, 50};
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) {
+        try (EmbeddedRedis redis = EmbeddedRedis.start();
+             ConfigurableApplicationContext context = BenchmarkSupport.start(append(args, redis.portArgument()))) {
+            LoanEngine loanEngine = context.getBean(LoanEngine.class);
+            String userName = context.getBean(UserRepository.class).save(new User("counter", 20)).getName();
+            BookRepository bookRepository = context.getBean(BookRepository.class);
+
+            System.out.printf("%n[일괄 대출/반납] 1회 = 회원 1명의 대출 + 반납%n");
+            BenchmarkSupport.printHeader();
+
+            for (int count : BOOKS_PER_MEMBER) {
+                List<String> bookNames = seedBooks(bookRepository, count);
+
+                BenchmarkSupport.measure(String.format("single %2d books", count), WARMUP, ITERATIONS, () -> {
+                    for (String bookName : bookNames) {
+                        loanEngine.loanBook(new BookLoanRequest(userName, bookName));
+                    }
+                    for (String bookName : bookNames) {
+                        loanEngine.returnBook(new BookReturnRequest(userName, bookName));
+                    }
+                    return bookNames.size();
+                }).print();
+
+                BenchmarkSupport.measure(String.format("batch  %2d books", count), WARMUP, ITERATIONS, () -> {
+                    int loaned = loanEngine.loanBooks(new BookLoanBatchRequest(userName, bookNames)).getSucceeded();
+                    int returned = loanEngine.returnBooks(new BookReturnBatchRequest(userName, bookNames)).getSucceeded();
+                    if (loaned != bookNames.size() || returned != bookNames.size()) {
+                        throw new IllegalStateException("일괄 대출/반납 결과가 요청 권수와 다릅니다: " + loaned + "/" + returned);
+                    }
+                    return loaned;
+                }).print();
+            }
+        }
+    }
+
+    private static List<String> seedBooks(BookRepository bookRepository, int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(new Book("batch" + count + "-book" + i));
+        }
+        return bookRepository.saveAll(books).stream().map(Book::getName).toList();
+    }
+
+    private static String[] append(String[] args, String arg) {
+        String[] result = new String[args.length + 1];
+        System.arraycopy(args, 0, result, 0, args.length);
+        result[args.length] = arg;
+        return result;
+    }
+
+}
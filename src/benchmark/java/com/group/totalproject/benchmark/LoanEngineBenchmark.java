@@ -0,0 +1,130 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.domain.book.Book;
+import com.group.totalproject.domain.book.BookRepository;
+import com.group.totalproject.domain.user.User;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.dto.book.request.BookReturnRequest;
+import com.group.totalproject.service.book.BookService;
+import com.group.totalproject.service.book.LoanEngine;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 대출 처리량: 서로 다른 도서가 많은 경우 vs 소수의 인기 도서에 요청이 몰리는 경우
+ *  - engine : LoanEngine (도서별 스트라이프 락 + active_book_id 유니크 제약)
+ *  - direct : BookService 직접 호출 (확인 후 저장, 락 없음 → 동시 대출은 DB 유니크 제약 위반으로만 거부됨)
+ * 스레드마다 임의의 회원/도서로 대출 후 바로 반납을 반복하고, 초당 대출 성공 건수와 거부 건수,
+ * 종료 후 도서당 대출 중 기록이 2건 이상인 도서 수(항상 0이어야 함)를 출력한다.
+ *
+ * 실행 예) ./gradlew benchmark -PbenchmarkClass=com.group.totalproject.benchmark.LoanEngineBenchmark --args='--benchmark.threads=32'
+ */
+public class LoanEngineBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int DISTINCT_BOOKS = 10_000;
+    private static final int HOT_BOOKS = 4;
+    private static final Duration DURATION = Duration.ofSeconds(10);
+
+    public static void main(String[] args) {
+        try (EmbeddedRedis redis = EmbeddedRedis.start();
+             ConfigurableApplicationContext context = BenchmarkSupport.start(append(args, redis.portArgument()))) {
+            Environment env = context.getEnvironment();
+            int threads = env.getProperty("benchmark.threads", Integer.class, 16);
+
+            LoanEngine loanEngine = context.getBean(LoanEngine.class);
+            BookService bookService = context.getBean(BookService.class);
+            UserLoanHistoryRepository userLoanHistoryRepository = context.getBean(UserLoanHistoryRepository.class);
+            seed(context);
+
+            System.out.printf("%n[대출 처리량] 스레드: %d, 회원: %,d명, 측정 시간: %ds%n", threads, USER_COUNT, DURATION.getSeconds());
+            System.out.printf("%-8s %-10s %14s %14s %14s %12s%n", "books", "strategy", "loans/s", "rejected/s", "violations/s", "duplicated");
+
+            BiConsumer<String, String> engineLoan = (user, book) -> {
+                loanEngine.loanBook(new BookLoanRequest(user, book));
+                loanEngine.returnBook(new BookReturnRequest(user, book));
+            };
+            BiConsumer<String, String> directLoan = (user, book) -> {
+                bookService.loanBook(new BookLoanRequest(user, book));
+                bookService.returnBook(new BookReturnRequest(user, book));
+            };
+
+            run("distinct", DISTINCT_BOOKS, "engine", engineLoan, threads, userLoanHistoryRepository);
+            run("distinct", DISTINCT_BOOKS, "direct", directLoan, threads, userLoanHistoryRepository);
+            run("hot", HOT_BOOKS, "engine", engineLoan, threads, userLoanHistoryRepository);
+            run("hot", HOT_BOOKS, "direct", directLoan, threads, userLoanHistoryRepository);
+        }
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BookRepository bookRepository = context.getBean(BookRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>(USER_COUNT);
+            for (int i = 0; i < USER_COUNT; i++) {
+                users.add(new User(userName(i), 20));
+            }
+            userRepository.saveAll(users);
+
+            List<Book> books = new ArrayList<>(DISTINCT_BOOKS);
+            for (int i = 0; i < DISTINCT_BOOKS; i++) {
+                books.add(new Book(bookName(i)));
+            }
+            bookRepository.saveAll(books);
+        });
+    }
+
+    private static void run(String books, int bookCount, String strategy, BiConsumer<String, String> loanAndReturn,
+                            int threads, UserLoanHistoryRepository userLoanHistoryRepository) {
+        LongAdder loans = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder violations = new LongAdder();
+
+        BenchmarkSupport.throughput(threads, DURATION, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            try {
+                loanAndReturn.accept(userName(random.nextInt(USER_COUNT)), bookName(random.nextInt(bookCount)));
+                loans.increment();
+            } catch (IllegalArgumentException e) {
+                rejected.increment(); // 대출 중인 도서 (또는 다른 스레드가 먼저 반납하여 반납 기록 없음)
+            } catch (DataIntegrityViolationException e) {
+                violations.increment(); // 확인 이후 다른 스레드가 먼저 대출 → DB 유니크 제약이 거부
+            }
+            return null;
+        });
+
+        double seconds = DURATION.toNanos() / 1_000_000_000.0;
+        System.out.printf("%-8s %-10s %14.0f %14.0f %14.0f %12d%n", books, strategy,
+                loans.sum() / seconds, rejected.sum() / seconds, violations.sum() / seconds,
+                userLoanHistoryRepository.countDuplicatedActiveLoans());
+    }
+
+    private static String userName(int index) {
+        return "user" + index;
+    }
+
+    private static String bookName(int index) {
+        return "book" + index;
+    }
+
+    private static String[] append(String[] args, String arg) {
+        String[] result = new String[args.length + 1];
+        System.arraycopy(args, 0, result, 0, args.length);
+        result[args.length] = arg;
+        return result;
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.user.UserPageIndex;
+import com.group.totalproject.service.user.UserServiceV2;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 페이징 방식 비교: offset vs cursor vs cache-cursor (UserServiceV2 직접 호출)
+ *  - 회원 10만 / 100만 / 1,000만 명을 H2에 적재하고, 얕은 페이지(첫 페이지)와 깊은 페이지(마지막 부근)를 같은 위치로 비교
+ *  - cache-cursor는 L1 적중과 L2(Redis) 적중을 나눠 측정 (Redis는 내장 서버 사용)
+ *  - 지연시간(avg/p50/p99)은 단일 스레드, 처리량(ops/s)은 여러 스레드로 측정
+ *  - 결과는 콘솔과 build/reports/benchmark/paging.csv에 기록 (변경 전후 비교용)
+ *
+ * 실행 예) ./gradlew benchmark -PbenchmarkClass=com.group.totalproject.benchmark.PagingBenchmark
+ *          --args='--benchmark.user-counts=100000,1000000 --benchmark.page-size=100'
+ */
+public class PagingBenchmark {
+
+    private static final String DEFAULT_USER_COUNTS = "100000,1000000,10000000";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final Duration LATENCY_BUDGET = Duration.ofSeconds(5); // 시나리오당 지연시간 측정 시간 (깊은 offset 페이지는 반복 횟수를 줄임)
+    private static final int MIN_ITERATIONS = 10;
+    private static final int MAX_ITERATIONS = 20_000;
+    private static final int THROUGHPUT_THREADS = 8;
+    private static final Duration THROUGHPUT_DURATION = Duration.ofSeconds(5);
+
+    private static final Path REPORT_PATH = Paths.get("build", "reports", "benchmark", "paging.csv");
+
+    public static void main(String[] args) {
+        try (EmbeddedRedis redis = EmbeddedRedis.start();
+             ConfigurableApplicationContext context = BenchmarkSupport.start(append(args, redis.portArgument()))) {
+            Environment env = context.getEnvironment();
+            long[] userCounts = Arrays.stream(env.getProperty("benchmark.user-counts", DEFAULT_USER_COUNTS).split(","))
+                    .map(String::trim)
+                    .mapToLong(Long::parseLong)
+                    .sorted()
+                    .toArray();
+            int size = env.getProperty("benchmark.page-size", Integer.class, DEFAULT_PAGE_SIZE);
+
+            UserServiceV2 userService = context.getBean(UserServiceV2.class);
+            TwoLevelCacheManager userCacheManager = context.getBean(TwoLevelCacheManager.class);
+            StringRedisTemplate stringRedisTemplate = context.getBean(StringRedisTemplate.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            List<Row> rows = new ArrayList<>();
+            for (long userCount : userCounts) {
+                long seedStart = System.nanoTime();
+                BenchmarkSupport.seedUsersInBulk(jdbcTemplate, userCount); // 적은 수부터 차례로 추가 적재 (id = 1..userCount)
+                System.out.printf("%n[페이징 방식 비교] 회원 수: %,d, 페이지 크기: %d (적재 %.1fs)%n",
+                        userCount, size, (System.nanoTime() - seedStart) / 1e9);
+
+                // 이전 회원 수에서 채운 캐시가 섞이지 않도록 초기화
+                stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+                    connection.serverCommands().flushAll();
+                    return null;
+                });
+                userCacheManager.clearLocal(UserPageIndex.CACHE_NAME);
+
+                int deepPage = (int) Math.max(0, userCount / size - 2); // 마지막 부근 페이지
+                Long deepCursor = userCount - (long) deepPage * size + 1; // 같은 위치의 커서 (id < cursor)
+
+                printHeader();
+                rows.addAll(run(userCount, "shallow", 0, null, size, userService, userCacheManager));
+                rows.addAll(run(userCount, "deep", deepPage, deepCursor, size, userService, userCacheManager));
+            }
+
+            writeReport(rows);
+            System.out.printf("%n보고서: %s%n", REPORT_PATH.toAbsolutePath());
+        }
+    }
+
+    private static List<Row> run(long userCount, String depth, int page, Long cursor, int size,
+                                 UserServiceV2 userService, TwoLevelCacheManager userCacheManager) {
+        String cacheKey = UserPageIndex.cacheKey(cursor, size);
+        userService.getUsersWithCache(cursor, size); // 캐시 적재 (MISS 1회)
+
+        List<Row> rows = new ArrayList<>();
+        rows.add(scenario(userCount, "offset", depth, () -> userService.getUsersWithOffset(page, size)));
+        rows.add(scenario(userCount, "cursor", depth, () -> userService.getUsersWithCursor(cursor, size)));
+        rows.add(scenario(userCount, "cache-cursor(L1)", depth, () -> userService.getUsersWithCache(cursor, size)));
+        rows.add(scenario(userCount, "cache-cursor(L2)", depth, () -> {
+            userCacheManager.evictLocal(UserPageIndex.CACHE_NAME, cacheKey); // 이 노드의 L1만 제거 → Redis에서 조회
+            return userService.getUsersWithCache(cursor, size);
+        }));
+        return rows;
+    }
+
+    private static Row scenario(long userCount, String strategy, String depth, Supplier<?> task) {
+        // 1회 실행 시간으로 반복 횟수 결정 (깊은 offset 페이지는 1회에 수 초가 걸릴 수 있음)
+        long trialStart = System.nanoTime();
+        task.get();
+        long trialNanos = Math.max(1, System.nanoTime() - trialStart);
+        int iterations = (int) Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, LATENCY_BUDGET.toNanos() / trialNanos));
+
+        BenchmarkSupport.Result latency = BenchmarkSupport.measure(strategy + " " + depth, iterations / 5, iterations, task);
+        double opsPerSecond = BenchmarkSupport.throughput(THROUGHPUT_THREADS, THROUGHPUT_DURATION, task);
+
+        Row row = new Row(userCount, strategy, depth, latency, opsPerSecond);
+        row.print();
+        return row;
+    }
+
+    private static void printHeader() {
+        System.out.printf("%-18s %-8s %8s %12s %12s %12s %14s%n", "strategy", "depth", "ops", "avg(us)", "p50(us)", "p99(us)", "throughput/s");
+    }
+
+    private static void writeReport(List<Row> rows) {
+        List<String> lines = new ArrayList<>(rows.size() + 2);
+        lines.add("# paging benchmark " + LocalDateTime.now() + ", java " + System.getProperty("java.version")
+                + ", threads " + THROUGHPUT_THREADS);
+        lines.add("users,strategy,depth,iterations,avg_us,p50_us,p99_us,alloc_bytes_per_op,ops_per_sec");
+        for (Row row : rows) {
+            lines.add(row.toCsv());
+        }
+
+        try {
+            Files.createDirectories(REPORT_PATH.getParent());
+            Files.write(REPORT_PATH, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보고서를 저장할 수 없습니다: " + REPORT_PATH, e);
+        }
+    }
+
+    private static String[] append(String[] args, String arg) {
+        String[] result = Arrays.copyOf(args, args.length + 1);
+        result[args.length] = arg;
+        return result;
+    }
+
+    private static class Row { // 보고서 1행: 회원 수 × 페이징 방식 × 페이지 깊이
+
+        private final long userCount;
+        private final String strategy;
+        private final String depth;
+        private final BenchmarkSupport.Result latency;
+        private final double opsPerSecond;
+
+        private Row(long userCount, String strategy, String depth, BenchmarkSupport.Result latency, double opsPerSecond) {
+            this.userCount = userCount;
+            this.strategy = strategy;
+            this.depth = depth;
+            this.latency = latency;
+            this.opsPerSecond = opsPerSecond;
+        }
+
+        private void print() {
+            System.out.printf("%-18s %-8s %8d %12.1f %12.1f %12.1f %14.0f%n", strategy, depth, latency.getIterations(),
+                    latency.getAvgNanos() / 1_000.0, latency.getP50Nanos() / 1_000.0, latency.getP99Nanos() / 1_000.0, opsPerSecond);
+        }
+
+        private String toCsv() {
+            return String.format("%d,%s,%s,%d,%.1f,%.1f,%.1f,%d,%.0f", userCount, strategy, depth, latency.getIterations(),
+                    latency.getAvgNanos() / 1_000.0, latency.getP50Nanos() / 1_000.0, latency.getP99Nanos() / 1_000.0,
+                    latency.getBytesPerOp(), opsPerSecond);
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.group.totalproject.benchmark;
+
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.dto.user.response.UserResponse;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Collectors;
+
+/**
+ * 회원 페이지 조회: 엔티티 조회 후 변환 vs DTO 프로젝션 비교
+ *  - entity     : findTopByOrderByIdDesc → User 엔티티(영속성 컨텍스트 등록) → UserResponse::new
+ *  - projection : findResponsesOrderByIdDesc → SELECT new UserResponse(u.id, u.name, u.age)
+ * 페이지 크기 100 / 1,000 / 10,000 건에 대해 지연시간과 1회당 할당 바이트를 출력한다.
+ */
+public class UserProjectionBenchmark {
+
+    private static final long USER_COUNT = 50_000;
+    private static final int[] PAGE_SIZES = {100, 1_000, 10_000};
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = BenchmarkSupport.start(args)) {
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true); // 서비스의 @Transactional(readOnly = true)와 동일한 조건
+
+            BenchmarkSupport.seedUsers(context.getBean(JdbcTemplate.class), USER_COUNT);
+            System.out.printf("%n[회원 조회 방식 비교] 회원 수: %,d%n", USER_COUNT);
+            BenchmarkSupport.printHeader();
+
+            for (int size : PAGE_SIZES) {
+                PageRequest page = PageRequest.of(0, size);
+                int iterations = Math.max(20, 200_000 / size);
+
+                BenchmarkSupport.Result entity = BenchmarkSupport.measure("entity     size=" + size, iterations / 2, iterations,
+                        () -> readOnly.execute(status -> userRepository.findTopByOrderByIdDesc(page).stream()
+                                .map(UserResponse::new)
+                                .collect(Collectors.toList())));
+
+                BenchmarkSupport.Result projection = BenchmarkSupport.measure("projection size=" + size, iterations / 2, iterations,
+                        () -> readOnly.execute(status -> userRepository.findResponsesOrderByIdDesc(page)));
+
+                entity.print();
+                projection.print();
+                System.out.printf("  → projection 속도 향상: %.2f배%n", entity.getAvgNanos() / projection.getAvgNanos());
+            }
+        }
+    }
+
+}
@@ -2,8 +2,10 @@ package com.group.totalproject;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication // 스프링 실행 시 설정들을 자동으로 해줌
+@EnableScheduling // @Scheduled 작업 활성화 (카운터 보정 등)
 public class TotalProjectApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,46 @@
+package com.group.totalproject.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * L1 캐시 항목: 값과 함께 L2(Redis) 만료 시각, 재계산 소요 시간을 보관
+ *  - expiresAtMillis: L2 항목 만료 시각 (TTL이 없으면 Long.MAX_VALUE)
+ *  - computeMillis: 이 노드에서 값을 계산하는 데 걸린 시간 (L2에서 읽어온 값이면 -1)
+ */
+public class CacheEntry implements Cache.ValueWrapper {
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+    public static final long UNKNOWN_COMPUTE_TIME = -1;
+
+    private final Object value;
+    private final long expiresAtMillis;
+    private final long computeMillis;
+
+    public CacheEntry(Object value, long expiresAtMillis, long computeMillis) {
+        this.value = value;
+        this.expiresAtMillis = expiresAtMillis;
+        this.computeMillis = computeMillis;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+
+    // 남은 TTL(초), TTL이 없으면 -1
+    public long getRemainingTtlSeconds() {
+        if (expiresAtMillis == NO_EXPIRY) {
+            return -1;
+        }
+        return Math.max(0, (expiresAtMillis - System.currentTimeMillis()) / 1000);
+    }
+
+}
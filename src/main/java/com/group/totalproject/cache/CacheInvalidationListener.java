@@ -0,0 +1,39 @@
+package com.group.totalproject.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * cache:invalidation 채널 구독자: 수신한 메시지에 해당하는 L1 항목을 제거
+ * RedisConfig의 RedisMessageListenerContainer에 등록됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(CacheInvalidationPublisher.SEPARATOR);
+        if (separatorIndex < 0) {
+            log.warn("[잘못된 캐시 무효화 메시지] {}", body);
+            return;
+        }
+
+        String cacheName = body.substring(0, separatorIndex);
+        String key = body.substring(separatorIndex + CacheInvalidationPublisher.SEPARATOR.length());
+
+        if (CacheInvalidationPublisher.ALL_KEYS.equals(key)) {
+            cacheManager.clearLocal(cacheName);
+        } else {
+            cacheManager.evictLocal(cacheName, key);
+        }
+    }
+
+}
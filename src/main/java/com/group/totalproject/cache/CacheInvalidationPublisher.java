@@ -0,0 +1,42 @@
+package com.group.totalproject.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * L1 캐시 무효화 메시지 발행
+ *  - Redis pub/sub 채널(cache:invalidation)로 "캐시이름::키" 형식의 메시지를 전송
+ *  - 발행한 노드 자신을 포함한 모든 노드가 수신하여 L1 항목을 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    public static final String SEPARATOR = "::";
+    public static final String ALL_KEYS = "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void publish(String cacheName, Object key) {
+        send(cacheName + SEPARATOR + key);
+    }
+
+    public void publishClear(String cacheName) {
+        send(cacheName + SEPARATOR + ALL_KEYS);
+    }
+
+    private void send(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            // 발행 실패 시에도 L1 TTL(cache.user.l1-ttl)이 지나면 자동 만료됨
+            log.warn("[캐시 무효화 메시지 발행 실패] message: {}, 이유: {}", message, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.group.totalproject.cache;
+
+import lombok.Getter;
+
+@Getter
+public class CacheLookup { // 캐시 조회 결과: 값, HIT 여부, 조회 계층, 남은 TTL을 한 번에 전달
+
+    public enum Tier { L1, L2, MISS }
+
+    private static final CacheLookup MISS = new CacheLookup(null, Tier.MISS, -1);
+
+    private final Object value;
+    private final Tier tier;
+    private final long ttlSeconds; // 남은 TTL(초), TTL이 없거나 MISS이면 -1
+
+    private CacheLookup(Object value, Tier tier, long ttlSeconds) {
+        this.value = value;
+        this.tier = tier;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    static CacheLookup hit(CacheEntry entry, Tier tier) {
+        return new CacheLookup(entry.get(), tier, entry.getRemainingTtlSeconds());
+    }
+
+    static CacheLookup miss() {
+        return MISS;
+    }
+
+    public boolean isHit() {
+        return tier != Tier.MISS;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.group.totalproject.cache;
+
+import lombok.Getter;
+
+@Getter
+public class CacheTierStats { // 캐시 계층(L1/L2)별 적중 통계
+
+    private final String cacheName;
+    private final long l1Size;
+    private final long l1Hits;
+    private final long l1Misses;
+    private final double l1HitRatio;
+    private final long l2Hits;
+    private final long l2Misses;
+    private final double l2HitRatio;
+
+    public CacheTierStats(String cacheName, long l1Size, long l1Hits, long l1Misses, long l2Hits, long l2Misses) {
+        this.cacheName = cacheName;
+        this.l1Size = l1Size;
+        this.l1Hits = l1Hits;
+        this.l1Misses = l1Misses;
+        this.l1HitRatio = ratio(l1Hits, l1Misses);
+        this.l2Hits = l2Hits;
+        this.l2Misses = l2Misses;
+        this.l2HitRatio = ratio(l2Hits, l2Misses); // L1 MISS 요청 중 L2에서 적중한 비율
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+}
@@ -0,0 +1,458 @@
+package com.group.totalproject.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.group.totalproject.prop.UserCacheProps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시
+ *  - L1: JVM 내부 Caffeine 캐시 (네트워크 왕복 없음, 크기 제한)
+ *  - L2: Redis 캐시 (RedisCacheManager가 생성한 캐시, 모든 노드가 공유)
+ * 조회는 L1 → L2 → 원본(DB) 순서로 진행하고, 변경/삭제는 L2 반영 후 pub/sub으로 모든 노드의 L1을 무효화한다.
+ *
+ * 캐시 스탬피드 방지 (@Cacheable(sync = true) 경로, get(key, Callable))
+ *  - 노드 내부: 같은 키의 동시 MISS는 하나의 원본 조회 결과를 공유 (single-flight)
+ *  - 노드 간: Redis 락(SET NX PX)을 잡은 노드만 원본 조회, 나머지는 L2에 값이 채워질 때까지 짧게 대기
+ *  - 조기 갱신: 만료 직전 요청 중 하나가 확률적으로(XFetch) 백그라운드 재계산 → 만료 시점에 몰리는 MISS 제거
+ * 원본 조회 결과는 L2 값이 조회 전과 같을 때만 저장 (Lua 비교 후 저장) → 조회 중 다른 곳(UserCacheMaintenanceWorker 등)이 수정한 값을 덮어쓰지 않음
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+
+    // 락 해제: 내가 잡은 락(토큰 일치)일 때만 삭제 (락 만료 후 다른 노드가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 조건부 저장: 현재 값이 조회 전 값과 같을 때만 저장 (ARGV[1] = 1: 조회 전 값 ARGV[2] 존재 / 0: 없음, ARGV[3] = 새 값, ARGV[4] = TTL(ms, 0이면 만료 없음))
+    private static final byte[] COMPARE_AND_SET_SCRIPT = (
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if (ARGV[1] == '1' and current == ARGV[2]) or (ARGV[1] == '0' and not current) then "
+                    + "if tonumber(ARGV[4]) > 0 then redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) "
+                    + "else redis.call('SET', KEYS[1], ARGV[3]) end "
+                    + "return 1 end "
+                    + "return 0").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NO_EXPECTED = new byte[0];
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, CacheEntry> localCache; // L1
+    private final Cache redisCache; // L2
+    private final RedisCacheConfiguration redisCacheConfig; // L2 키 접두사, 값 직렬화, TTL
+    private final StringRedisTemplate stringRedisTemplate; // L2 조회(GET + PTTL), 조건부 저장, 노드 간 락
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Executor refreshExecutor; // 조기 갱신 실행
+    private final UserCacheProps props;
+
+    private final ConcurrentMap<Object, CompletableFuture<CacheEntry>> inFlight = new ConcurrentHashMap<>(); // 키별 진행 중인 원본 조회
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, CacheEntry> localCache,
+                         Cache redisCache,
+                         RedisCacheConfiguration redisCacheConfig,
+                         StringRedisTemplate stringRedisTemplate,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         Executor refreshExecutor,
+                         UserCacheProps props) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.redisCacheConfig = redisCacheConfig;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.props = props;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    // 반환 값은 CacheEntry (L2 만료 시각 포함)
+    @Override
+    public CacheEntry get(Object key) {
+        CacheEntry local = localCache.getIfPresent(key); // L1 조회 (Caffeine이 hit/miss 통계 기록)
+        if (local != null) {
+            return local;
+        }
+        return loadFromRemote(key);
+    }
+
+    // 값, HIT 여부, 남은 TTL을 한 번에 조회 (L1 HIT: Redis 호출 없음 / L2: GET + PTTL 파이프라인 1회)
+    public CacheLookup lookup(Object key) {
+        CacheEntry local = localCache.getIfPresent(key);
+        if (local != null) {
+            return CacheLookup.hit(local, CacheLookup.Tier.L1);
+        }
+
+        CacheEntry remote = loadFromRemote(key);
+        return remote != null ? CacheLookup.hit(remote, CacheLookup.Tier.L2) : CacheLookup.miss();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. 요구 타입: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    // @Cacheable(sync = true)에서 호출됨
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEntry local = localCache.getIfPresent(key);
+        if (local != null) {
+            refreshEarlyIfNeeded(key, local, valueLoader);
+            return (T) local.get();
+        }
+
+        CompletableFuture<CacheEntry> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) { // 이 노드에서 이미 같은 키를 조회 중 → 결과 공유
+            CacheEntry shared = await(key, existing);
+            if (shared != null) {
+                return (T) shared.get();
+            }
+            return (T) loadThrough(key, valueLoader).get(); // 조기 갱신이 건너뛰어진 경우 직접 조회
+        }
+
+        try {
+            CacheEntry entry = loadThrough(key, valueLoader);
+            loading.complete(entry);
+            return (T) entry.get();
+        } catch (RuntimeException ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    // L2에 저장 후 모든 노드(자신 포함)의 L1 항목을 무효화 (evict와 같은 메시지, 다음 조회 시 L2에서 새 값을 읽음)
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidate(key); // L2 값이 새로 저장된 경우에만 다른 노드의 L1이 오래된 값이 됨
+        } else {
+            localCache.put(key, new CacheEntry(existing.get(), expiresAtFromNow(), CacheEntry.UNKNOWN_COMPUTE_TIME));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        invalidateAll();
+    }
+
+    // L2는 이미 반영된 상태에서 모든 노드의 L1만 무효화 (Redis 값을 직접 수정한 경우 사용)
+    public void invalidate(Object key) {
+        localCache.invalidate(key);
+        invalidationPublisher.publish(name, key);
+    }
+
+    public void invalidateAll() {
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    // 다른 노드로부터 무효화 메시지를 받았을 때 호출 (재발행하지 않음)
+    void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // 계층별 캐시 통계
+    public CacheTierStats getStats() {
+        CacheStats l1 = localCache.stats();
+        return new CacheTierStats(
+                name,
+                localCache.estimatedSize(),
+                l1.hitCount(),
+                l1.missCount(),
+                l2Hits.sum(),
+                l2Misses.sum()
+        );
+    }
+
+    // L2 조회 → 없으면 락을 잡은 노드만 원본 조회, 락을 못 잡으면 L2에 값이 채워질 때까지 대기
+    private CacheEntry loadThrough(Object key, Callable<?> valueLoader) {
+        CacheEntry remote = loadFromRemote(key);
+        if (remote != null) {
+            return remote;
+        }
+
+        String token = tryLock(key);
+        if (token != null) {
+            try {
+                CacheEntry filled = readRemote(key); // 락을 잡는 사이 다른 노드가 채웠을 수 있음
+                if (filled != null) {
+                    localCache.put(key, filled);
+                    return filled;
+                }
+                return compute(key, valueLoader, null);
+            } finally {
+                unlock(key, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + props.getLockWait().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            if (!sleep(LOCK_POLL_INTERVAL_MILLIS)) {
+                break;
+            }
+            CacheEntry filled = readRemote(key);
+            if (filled != null) {
+                localCache.put(key, filled);
+                return filled;
+            }
+        }
+
+        log.warn("[캐시 락 대기 시간 초과] cache: {}, key: {} → 직접 조회", name, key);
+        return compute(key, valueLoader, null);
+    }
+
+    // XFetch: 남은 시간 <= 재계산 시간 * beta * -ln(rand) 이면 만료 전에 재계산 (만료가 가까울수록, 재계산이 오래 걸릴수록 확률 증가)
+    private void refreshEarlyIfNeeded(Object key, CacheEntry entry, Callable<?> valueLoader) {
+        if (props.getEarlyRefreshBeta() <= 0 || entry.getExpiresAtMillis() == CacheEntry.NO_EXPIRY) {
+            return;
+        }
+
+        long delta = entry.getComputeMillis() >= 0 ? entry.getComputeMillis() : props.getEarlyRefreshDefaultDelta().toMillis();
+        double gap = delta * props.getEarlyRefreshBeta() * -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        if (System.currentTimeMillis() + gap < entry.getExpiresAtMillis()) {
+            return;
+        }
+
+        CompletableFuture<CacheEntry> refreshing = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, refreshing) != null) { // 이 노드에서 이미 재계산 중
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                CacheEntry refreshed = null;
+                try {
+                    refreshed = refresh(key, valueLoader);
+                } catch (RuntimeException ex) {
+                    log.warn("[캐시 조기 갱신 실패] cache: {}, key: {}", name, key, ex);
+                } finally {
+                    inFlight.remove(key, refreshing);
+                    refreshing.complete(refreshed); // 실패/건너뜀이면 null → 대기 중인 요청이 직접 조회
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(key, refreshing);
+            refreshing.complete(null);
+        }
+    }
+
+    // 조기 갱신: 다른 노드가 이미 갱신 중이면(락 보유) 건너뜀
+    private CacheEntry refresh(Object key, Callable<?> valueLoader) {
+        String token = tryLock(key);
+        if (token == null) {
+            return null;
+        }
+
+        try {
+            log.info("[캐시 조기 갱신] cache: {}, key: {}", name, key);
+            return compute(key, valueLoader, readRaw(key));
+        } finally {
+            unlock(key, token);
+        }
+    }
+
+    // 원본 조회 후 L2 값이 expected(조회 전 값, null이면 없음)와 같을 때만 저장하고 모든 노드의 L1 무효화 (재계산 소요 시간을 함께 기록)
+    private CacheEntry compute(Object key, Callable<?> valueLoader, byte[] expected) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        long computeMillis = System.currentTimeMillis() - start;
+
+        CacheEntry entry = new CacheEntry(value, expiresAtFromNow(), computeMillis);
+        if (compareAndSet(key, expected, value)) {
+            invalidate(key); // 다른 노드의 L1에 남은 이전 값 제거 (다음 조회 시 L2에서 새 값을 읽음)
+        } else {
+            log.info("[캐시 저장 건너뜀] cache: {}, key: {} → 조회 중 L2 값이 변경됨", name, key); // 더 최신인 L2 값 유지, 이번 요청에는 조회 결과 반환
+        }
+        return entry;
+    }
+
+    // L2 값이 expected와 같을 때만 value 저장 (Lua 1회로 비교 + 저장, TTL은 L2 설정과 동일)
+    private boolean compareAndSet(Object key, byte[] expected, Object value) {
+        if (value == null && !redisCacheConfig.getAllowCacheNullValues()) {
+            throw new IllegalArgumentException("null 값을 캐시할 수 없습니다. cache: " + name + ", key: " + key);
+        }
+
+        byte[] redisKey = redisKey(key).getBytes(StandardCharsets.UTF_8);
+        byte[] serialized = serialize(value != null ? value : NullValue.INSTANCE); // RedisCache.put과 같은 null 표현
+        Duration ttl = redisCacheConfig.getTtl();
+        byte[] ttlMillis = String.valueOf(ttl.isNegative() ? 0 : ttl.toMillis()).getBytes(StandardCharsets.UTF_8);
+        byte[] hasExpected = (expected != null ? "1" : "0").getBytes(StandardCharsets.UTF_8);
+
+        Long stored = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, 1,
+                redisKey, hasExpected, expected != null ? expected : NO_EXPECTED, serialized, ttlMillis));
+        return stored != null && stored == 1L;
+    }
+
+    private byte[] serialize(Object value) {
+        ByteBuffer buffer = redisCacheConfig.getValueSerializationPair().write(value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    // L2 원본 바이트 조회 (조기 갱신 전 비교 기준 값, 없으면 null)
+    private byte[] readRaw(Object key) {
+        byte[] redisKey = redisKey(key).getBytes(StandardCharsets.UTF_8);
+        return stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(redisKey));
+    }
+
+    private CacheEntry await(Object key, CompletableFuture<CacheEntry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("캐시 값 조회에 실패했습니다. key: " + key, cause);
+        }
+    }
+
+    // L2 조회 후 L1 적재
+    private CacheEntry loadFromRemote(Object key) {
+        CacheEntry remote = readRemote(key);
+        if (remote == null) {
+            l2Misses.increment();
+            return null;
+        }
+
+        l2Hits.increment();
+        localCache.put(key, remote);
+        return remote;
+    }
+
+    // L2 값과 남은 TTL을 파이프라인으로 한 번에 조회 (GET + PTTL, Redis 왕복 1회)
+    private CacheEntry readRemote(Object key) {
+        byte[] redisKey = redisKey(key).getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(redisKey);
+            connection.keyCommands().pTtl(redisKey);
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] bytes = (byte[]) results.get(0);
+        if (bytes == null) {
+            return null;
+        }
+
+        Object value = redisCacheConfig.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+        if (value == null) { // 읽을 수 없는 포맷 버전 → MISS로 처리하여 다시 적재
+            return null;
+        }
+        Long pttl = (Long) results.get(1);
+        long expiresAt = pttl != null && pttl > 0 ? System.currentTimeMillis() + pttl : CacheEntry.NO_EXPIRY;
+        return new CacheEntry(value, expiresAt, CacheEntry.UNKNOWN_COMPUTE_TIME);
+    }
+
+    // 락 획득 성공 시 토큰 반환, 실패 시 null
+    private String tryLock(Object key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey(key), token, props.getLockTtl());
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void unlock(Object key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(lockKey(key)), token);
+    }
+
+    private String redisKey(Object key) {
+        return redisCacheConfig.getKeyPrefixFor(name) + key;
+    }
+
+    private String lockKey(Object key) {
+        return LOCK_PREFIX + redisKey(key);
+    }
+
+    private long expiresAtFromNow() {
+        Duration ttl = redisCacheConfig.getTtl();
+        return ttl.isZero() || ttl.isNegative() ? CacheEntry.NO_EXPIRY : System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
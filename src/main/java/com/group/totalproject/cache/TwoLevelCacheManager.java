@@ -0,0 +1,111 @@
+package com.group.totalproject.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.group.totalproject.prop.UserCacheProps;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * RedisCacheManager(L2) 앞단에 JVM 내부 캐시(L1)를 붙인 CacheManager
+ *  - 캐시 이름별로 TwoLevelCache를 생성하여 재사용
+ *  - 다른 노드에서 발행한 무효화 메시지는 CacheInvalidationListener를 통해 evictLocal/clearLocal로 전달됨
+ *  - 조기 갱신(백그라운드 재계산)은 모든 캐시가 공유하는 작은 스레드 풀에서 실행
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 100; // 초과 시 조기 갱신을 건너뜀 (만료 후 일반 MISS 경로로 처리)
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisCacheConfiguration redisCacheConfig;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final UserCacheProps props;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            r -> {
+                Thread thread = new Thread(r, "two-level-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                RedisCacheConfiguration redisCacheConfig,
+                                StringRedisTemplate stringRedisTemplate,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                UserCacheProps props) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisCacheConfig = redisCacheConfig;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.props = props;
+    }
+
+    @Override
+    public TwoLevelCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            throw new IllegalStateException("Redis 캐시를 생성할 수 없습니다: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, CacheEntry> localCache = Caffeine.newBuilder()
+                .maximumSize(props.getL1MaximumSize()) // 크기 제한: 초과 시 오래 사용되지 않은 항목부터 제거
+                .expireAfterWrite(props.getL1Ttl()) // 무효화 메시지를 놓치더라도 일정 시간 후 자동 만료
+                .recordStats() // hit/miss 통계 기록
+                .build();
+
+        return new TwoLevelCache(name, localCache, redisCache, redisCacheConfig, stringRedisTemplate,
+                invalidationPublisher, refreshExecutor, props);
+    }
+
+    // 다른 노드에서 전달된 무효화 처리 (L1만 제거)
+    public void evictLocal(String name, Object key) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    public List<CacheTierStats> getStats() {
+        return caches.values().stream()
+                .map(TwoLevelCache::getStats)
+                .collect(Collectors.toList());
+    }
+
+    // 빈 소멸 시 호출 (@Bean의 destroyMethod 추론: shutdown)
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.group.totalproject.cache.codec;
+
+public enum CacheCodec { // 캐시 값 직렬화 방식 (cache.user.codec)
+
+    JSON,   // Jackson JSON (기본값, 사람이 읽을 수 있고 Lua 스크립트로 부분 수정 가능)
+    BINARY, // CompactBinaryRedisSerializer (필드명 없는 이진 포맷 + 크기 기준 압축)
+
+}
@@ -0,0 +1,55 @@
+package com.group.totalproject.cache.codec;
+
+import com.group.totalproject.prop.UserCacheProps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class CacheCodecMetrics { // 캐시 값 직렬화 통계 수집 (MeasuredRedisSerializer, CompactBinaryRedisSerializer에서 기록)
+
+    private final UserCacheProps userCacheProps;
+
+    private final LongAdder encodeCount = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder decodeCount = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder discardedCount = new LongAdder();
+
+    public void recordEncode(int bytes, long nanos) {
+        encodeCount.increment();
+        encodedBytes.add(bytes);
+        encodeNanos.add(nanos);
+    }
+
+    public void recordDecode(long nanos) {
+        decodeCount.increment();
+        decodeNanos.add(nanos);
+    }
+
+    public void recordCompressed() {
+        compressedCount.increment();
+    }
+
+    public void recordDiscarded() {
+        discardedCount.increment();
+    }
+
+    public CacheCodecStats getStats() {
+        return new CacheCodecStats(
+                userCacheProps.getCodec().name().toLowerCase(),
+                encodeCount.sum(),
+                encodedBytes.sum(),
+                encodeNanos.sum(),
+                decodeCount.sum(),
+                decodeNanos.sum(),
+                compressedCount.sum(),
+                discardedCount.sum()
+        );
+    }
+
+}
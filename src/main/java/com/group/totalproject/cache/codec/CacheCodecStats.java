@@ -0,0 +1,33 @@
+package com.group.totalproject.cache.codec;
+
+import lombok.Getter;
+
+@Getter
+public class CacheCodecStats { // 캐시 값 직렬화 통계 (항목당 크기, 인코딩/디코딩 시간)
+
+    private final String codec;
+    private final long encodeCount;
+    private final double avgEncodedBytes;
+    private final double avgEncodeMicros;
+    private final long decodeCount;
+    private final double avgDecodeMicros;
+    private final long compressedCount; // 압축 임계값을 넘어 압축 저장된 항목 수
+    private final long discardedCount; // 알 수 없는 포맷 버전이라 버린(캐시 MISS 처리) 항목 수
+
+    public CacheCodecStats(String codec, long encodeCount, long encodedBytes, long encodeNanos,
+                           long decodeCount, long decodeNanos, long compressedCount, long discardedCount) {
+        this.codec = codec;
+        this.encodeCount = encodeCount;
+        this.avgEncodedBytes = average(encodedBytes, encodeCount);
+        this.avgEncodeMicros = average(encodeNanos, encodeCount) / 1_000.0;
+        this.decodeCount = decodeCount;
+        this.avgDecodeMicros = average(decodeNanos, decodeCount) / 1_000.0;
+        this.compressedCount = compressedCount;
+        this.discardedCount = discardedCount;
+    }
+
+    private static double average(long total, long count) {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+}
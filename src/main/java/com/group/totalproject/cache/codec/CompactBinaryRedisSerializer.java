@@ -0,0 +1,244 @@
+package com.group.totalproject.cache.codec;
+
+import com.group.totalproject.dto.user.response.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 회원 페이지(List<UserResponse>)를 필드명 없이 저장하는 이진 직렬화
+ *
+ * 포맷: [MAGIC][VERSION][FLAGS][TYPE][payload]
+ *  - MAGIC: JSON 값은 ASCII 문자로 시작하므로 첫 바이트로 이진/JSON 구분 → 코덱 전환 전 JSON 항목도 그대로 읽음
+ *  - VERSION: 모르는 버전이면 null 반환(캐시 MISS로 처리되어 원본에서 다시 적재)
+ *  - FLAGS: 압축 여부 (payload가 임계값보다 크고 압축 결과가 더 작을 때만 Deflate 압축)
+ *  - payload: 건수 + 행 데이터 (id는 이전 행과의 차이를 가변 길이 정수로 저장, 문자열은 UTF-8)
+ * 지원하지 않는 타입은 fallback(JSON) 직렬화를 그대로 사용한다.
+ */
+@Slf4j
+public class CompactBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 4;
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final byte TYPE_EMPTY_LIST = 0;
+    private static final byte TYPE_USER_LIST = 1;
+    // 2: 사용하지 않음 (대출 목록용으로 예약했던 값, 남아 있는 항목은 모르는 타입으로 버려지므로 재사용하지 않음)
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final CacheCodecMetrics metrics;
+
+    @SuppressWarnings("unchecked")
+    public CompactBinaryRedisSerializer(RedisSerializer<?> fallback, int compressionThreshold, CacheCodecMetrics metrics) {
+        this.fallback = (RedisSerializer<Object>) fallback;
+        this.compressionThreshold = compressionThreshold;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte type = typeOf(value);
+        if (type < 0) {
+            return fallback.serialize(value); // 지원하지 않는 타입은 JSON으로 저장
+        }
+
+        try {
+            byte[] payload = writePayload(type, (List<?>) value);
+            byte flags = 0;
+            if (payload.length > compressionThreshold) {
+                byte[] compressed = compress(payload);
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags |= FLAG_COMPRESSED;
+                    metrics.recordCompressed();
+                }
+            }
+
+            byte[] bytes = new byte[HEADER_SIZE + payload.length];
+            bytes[0] = MAGIC;
+            bytes[1] = VERSION;
+            bytes[2] = flags;
+            bytes[3] = type;
+            System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+            return bytes;
+        } catch (IOException ex) {
+            throw new SerializationException("캐시 값을 이진 포맷으로 변환할 수 없습니다.", ex);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes); // JSON으로 저장된 항목 (코덱 전환 전 값 또는 지원하지 않는 타입)
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            log.debug("[캐시 포맷 버전 불일치] 항목을 버리고 다시 적재합니다. version: {}", bytes.length > 1 ? bytes[1] : -1);
+            metrics.recordDiscarded();
+            return null;
+        }
+
+        InputStream payload = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+            payload = new InflaterInputStream(payload);
+        }
+
+        try (DataInputStream in = new DataInputStream(payload)) {
+            switch (bytes[3]) {
+                case TYPE_EMPTY_LIST:
+                    return new ArrayList<>();
+                case TYPE_USER_LIST:
+                    return readUsers(in);
+                default:
+                    metrics.recordDiscarded();
+                    return null;
+            }
+        } catch (IOException ex) {
+            throw new SerializationException("이진 포맷 캐시 값을 읽을 수 없습니다.", ex);
+        }
+    }
+
+    // 지원 타입이면 TYPE 값, 아니면 -1
+    private static byte typeOf(Object value) {
+        if (!(value instanceof List)) {
+            return -1;
+        }
+
+        List<?> list = (List<?>) value;
+        if (list.isEmpty()) {
+            return TYPE_EMPTY_LIST;
+        }
+        if (list.stream().allMatch(UserResponse.class::isInstance)) {
+            return TYPE_USER_LIST;
+        }
+        return -1;
+    }
+
+    private static byte[] writePayload(byte type, List<?> list) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + list.size() * 16);
+        DataOutputStream out = new DataOutputStream(buffer);
+        writeVarLong(out, list.size());
+
+        long previousId = 0;
+        for (Object element : list) {
+            if (type == TYPE_USER_LIST) {
+                UserResponse user = (UserResponse) element;
+                writeVarLong(out, zigZag(user.getId() - previousId)); // 페이지는 id 순으로 정렬되어 있어 차이값이 작음
+                writeString(out, user.getName());
+                writeNullableInt(out, user.getAge());
+                previousId = user.getId();
+            }
+        }
+
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static List<UserResponse> readUsers(DataInputStream in) throws IOException {
+        int size = (int) readVarLong(in);
+        List<UserResponse> users = new ArrayList<>(size);
+        long id = 0;
+        for (int i = 0; i < size; i++) {
+            id += unZigZag(readVarLong(in));
+            users.add(new UserResponse(id, readString(in), readNullableInt(in)));
+        }
+        return users;
+    }
+
+    private static byte[] compress(byte[] payload) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED); // 캐시 적재 경로이므로 압축률보다 속도 우선
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    // 가변 길이 정수: 7비트씩 저장, 최상위 비트는 다음 바이트 존재 여부
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+
+    // 음수 차이값도 작은 양수로 표현 (0, -1, 1, -2 … → 0, 1, 2, 3 …)
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // 문자열: (UTF-8 길이 + 1), null이면 0
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, zigZag(value));
+        }
+    }
+
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? (int) unZigZag(readVarLong(in)) : null;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.group.totalproject.cache.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 직렬화 시간과 결과 크기를 CacheCodecMetrics에 기록하는 RedisSerializer 래퍼
+ * (JSON/BINARY 어느 코덱을 사용하든 같은 기준으로 비교할 수 있도록 가장 바깥에서 측정)
+ */
+public class MeasuredRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final CacheCodecMetrics metrics;
+
+    public MeasuredRedisSerializer(RedisSerializer<T> delegate, CacheCodecMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        long start = System.nanoTime();
+        byte[] bytes = delegate.serialize(value);
+        metrics.recordEncode(bytes != null ? bytes.length : 0, System.nanoTime() - start);
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        T value = delegate.deserialize(bytes);
+        metrics.recordDecode(System.nanoTime() - start);
+        return value;
+    }
+
+}
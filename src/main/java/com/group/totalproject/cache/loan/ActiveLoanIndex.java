@@ -0,0 +1,254 @@
+package com.group.totalproject.cache.loan;
+
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대출 중 인덱스 (JVM 메모리)
+ *  - loanedBooks : 대출 중인 도서 ID 비트맵 (도서 1권당 1비트)
+ *  - borrowers   : 도서 ID → 대출 회원 ID (대출 중인 건만)
+ * 대출 가능 여부를 O(1)로 확인하는 힌트로만 사용한다 (노드 간 반영이 늦을 수 있음).
+ *  - "대출 중 아님"이면 DB 조회 없이 대출 기록 INSERT (실제로 대출 중이면 uk_user_loan_history_active_book 제약이 거부)
+ *  - "대출 중"이면 DB로 다시 확인한 뒤 거부 (반납이 아직 전달되지 않은 경우 잘못 거부하지 않도록)
+ *  - 기동 시와 주기적으로 DB(is_return = false)에서 다시 구성 (pub/sub 메시지 유실 등으로 어긋난 상태 보정)
+ *  - 대출/반납은 커밋 후 이 노드에 반영하고 Redis pub/sub(loan:active)으로 다른 노드에 전달
+ *  - 반납은 기록된 대출 회원이 같을 때만 반영하므로, 다른 노드의 메시지가 순서가 바뀌어 도착해도 재대출을 지우지 않음
+ * 구성 전에는 Optional.empty()를 반환하며 호출 측에서 DB로 확인한다.
+ * 회원 삭제 시 대출 중 기록 확인은 이 인덱스를 쓰지 않고 DB(idx_user_loan_history_user_return)로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveLoanIndex implements MessageListener {
+
+    public static final String CHANNEL = "loan:active";
+
+    private static final String LOANED = "L";
+    private static final String RETURNED = "R";
+    private static final String NODE_ID = UUID.randomUUID().toString(); // 자기 노드가 발행한 메시지 구분
+
+    private final UserLoanHistoryRepository userLoanHistoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet loanedBooks = new BitSet();
+    private Map<Long, Long> borrowers = new HashMap<>();
+    private List<Change> changesDuringRebuild; // 재구성 중 반영된 변경 (DB 조회 이후 변경이 새 인덱스에서 빠지지 않도록 다시 반영)
+    private volatile boolean ready = false;
+
+    private final LongAdder indexChecks = new LongAdder();
+    private final LongAdder dbFallbacks = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    // 도서가 대출 중인지 (구성 전이면 empty → DB 확인)
+    public Optional<Boolean> isBookLoaned(long bookId) {
+        if (!ready) {
+            dbFallbacks.increment();
+            return Optional.empty();
+        }
+
+        indexChecks.increment();
+        lock.readLock().lock();
+        try {
+            return Optional.of(isLoaned(bookId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영 (롤백된 대출/반납은 반영하지 않음)
+    public void loaned(long userId, long bookId) {
+        afterCommit(new Change(LOANED, userId, bookId));
+    }
+
+    public void returned(long userId, long bookId) {
+        afterCommit(new Change(RETURNED, userId, bookId));
+    }
+
+    public ActiveLoanIndexStats getStats() {
+        lock.readLock().lock();
+        try {
+            return new ActiveLoanIndexStats(ready, borrowers.size(), loanedBooks.size() / 8,
+                    indexChecks.sum(), dbFallbacks.sum(), lastRebuildMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 다른 노드의 대출/반납 메시지 (RedisConfig의 RedisMessageListenerContainer에 등록됨)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 4) {
+            log.warn("[잘못된 대출 인덱스 메시지] {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+        if (NODE_ID.equals(parts[0])) {
+            return; // 이 노드의 변경은 커밋 직후 이미 반영됨
+        }
+        apply(new Change(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+    }
+
+    @EventListener(ApplicationReadyEvent.class) // 애플리케이션 기동 완료 후 구성
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    // 주기적 보정: 노드마다 자신의 메모리 인덱스를 DB 기준으로 다시 구성 (기본 5분)
+    @Scheduled(fixedDelayString = "${loan.index.reconcile-interval-ms:300000}", initialDelayString = "${loan.index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            BitSet newLoanedBooks = new BitSet();
+            Map<Long, Long> newBorrowers = new HashMap<>();
+            for (Object[] row : userLoanHistoryRepository.findActiveLoanIds()) {
+                long bookId = (Long) row[0];
+                long userId = (Long) row[1];
+                loan(newLoanedBooks, newBorrowers, userId, bookId);
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Change change : changesDuringRebuild) {
+                    apply(newLoanedBooks, newBorrowers, change); // 대출/반납 반영은 여러 번 적용해도 결과가 같음
+                }
+                loanedBooks = newLoanedBooks;
+                borrowers = newBorrowers;
+                changesDuringRebuild = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRebuildMillis = System.currentTimeMillis() - start;
+            log.info("[대출 중 인덱스 구성 완료] 대출 중: {}건, 소요 시간: {}ms", newBorrowers.size(), lastRebuildMillis);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[대출 중 인덱스 구성 실패] 이유: {}", e.getMessage()); // 기존 인덱스 유지, 구성 전이면 DB 확인으로 동작
+        }
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndPublish(change);
+                }
+            });
+        } else {
+            applyAndPublish(change);
+        }
+    }
+
+    private void applyAndPublish(Change change) {
+        apply(change);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, NODE_ID + ":" + change.type + ":" + change.userId + ":" + change.bookId);
+        } catch (DataAccessException e) {
+            // 발행 실패 시 다른 노드는 다음 보정(loan.index.reconcile-interval-ms) 때 반영됨
+            log.warn("[대출 인덱스 메시지 발행 실패] {}, 이유: {}", change, e.getMessage());
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            apply(loanedBooks, borrowers, change);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(BitSet loanedBooks, Map<Long, Long> borrowers, Change change) {
+        if (LOANED.equals(change.type)) {
+            loan(loanedBooks, borrowers, change.userId, change.bookId);
+        } else {
+            giveBack(loanedBooks, borrowers, change.userId, change.bookId);
+        }
+    }
+
+    private static void loan(BitSet loanedBooks, Map<Long, Long> borrowers, long userId, long bookId) {
+        borrowers.put(bookId, userId); // 이전 회원의 반납 메시지보다 재대출 메시지가 먼저 도착한 경우에도 마지막 대출 회원으로 교체
+        if (bookId <= Integer.MAX_VALUE) {
+            loanedBooks.set((int) bookId);
+        }
+    }
+
+    private static void giveBack(BitSet loanedBooks, Map<Long, Long> borrowers, long userId, long bookId) {
+        if (!borrowers.remove(bookId, userId)) {
+            return; // 이미 반영되었거나 다른 회원이 다시 대출한 도서
+        }
+        if (bookId <= Integer.MAX_VALUE) {
+            loanedBooks.clear((int) bookId);
+        }
+    }
+
+    private boolean isLoaned(long bookId) {
+        if (bookId <= Integer.MAX_VALUE) {
+            return loanedBooks.get((int) bookId); // 비트맵 조회
+        }
+        return borrowers.containsKey(bookId); // 비트맵 범위를 넘는 ID
+    }
+
+    private static class Change { // 대출(L)/반납(R) 1건
+
+        private final String type;
+        private final long userId;
+        private final long bookId;
+
+        private Change(String type, long userId, long bookId) {
+            this.type = type;
+            this.userId = userId;
+            this.bookId = bookId;
+        }
+
+        @Override
+        public String toString() {
+            return type + ":" + userId + ":" + bookId;
+        }
+
+    }
+
+}
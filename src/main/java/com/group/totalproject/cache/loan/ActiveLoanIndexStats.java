@@ -0,0 +1,25 @@
+package com.group.totalproject.cache.loan;
+
+import lombok.Getter;
+
+@Getter
+public class ActiveLoanIndexStats { // 대출 중 인덱스 상태
+
+    private final boolean ready;          // DB에서 구성 완료 여부 (false면 DB로 확인)
+    private final int activeLoans;        // 대출 중 건수
+    private final int bitmapBytes;        // 도서 비트맵 크기
+    private final long indexChecks;       // 인덱스로 확인한 횟수 (DB 조회 생략)
+    private final long dbFallbacks;       // 구성 전이라 DB로 확인한 횟수
+    private final long lastRebuildMillis; // 마지막 구성 소요 시간
+
+    public ActiveLoanIndexStats(boolean ready, int activeLoans, int bitmapBytes,
+                                long indexChecks, long dbFallbacks, long lastRebuildMillis) {
+        this.ready = ready;
+        this.activeLoans = activeLoans;
+        this.bitmapBytes = bitmapBytes;
+        this.indexChecks = indexChecks;
+        this.dbFallbacks = dbFallbacks;
+        this.lastRebuildMillis = lastRebuildMillis;
+    }
+
+}
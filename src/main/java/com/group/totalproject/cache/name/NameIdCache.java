@@ -0,0 +1,160 @@
+package com.group.totalproject.cache.name;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.group.totalproject.domain.book.BookRepository;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.prop.NameIdCacheProps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회원/도서 이름 → ID 캐시 (JVM 메모리, Caffeine)
+ *  - 대출/반납 요청마다 반복되는 이름 조회(findIdByName)를 메모리에서 처리
+ *  - 크기 제한(cache.name-id.*-maximum-size) + TTL, 존재하지 않는 이름은 캐시하지 않음
+ *  - 회원 이름 변경/삭제, 도서 등록 시 커밋 후 Redis pub/sub(cache:name-id)으로 모든 노드(자신 포함)의 항목 제거
+ */
+@Slf4j
+@Component
+public class NameIdCache implements MessageListener {
+
+    public static final String CHANNEL = "cache:name-id";
+    public static final String USERS = "user";
+    public static final String BOOKS = "book";
+
+    private static final String SEPARATOR = ":";
+
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NameIdCacheProps props;
+    private final Cache<String, Long> userIds;
+    private final Cache<String, Long> bookIds;
+
+    public NameIdCache(UserRepository userRepository, BookRepository bookRepository,
+                       StringRedisTemplate stringRedisTemplate, NameIdCacheProps props) {
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.props = props;
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(props.getUserMaximumSize()) // 크기 제한: 초과 시 자주 쓰이지 않는 이름부터 제거
+                .expireAfterWrite(props.getTtl())
+                .recordStats() // hit/miss 통계 기록
+                .build();
+        this.bookIds = Caffeine.newBuilder()
+                .maximumSize(props.getBookMaximumSize())
+                .expireAfterWrite(props.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    // 회원 이름 → ID (캐시에 없으면 DB 조회 후 저장, 없는 회원이면 empty)
+    public Optional<Long> userId(String name) {
+        return Optional.ofNullable(userIds.get(name, key -> userRepository.findIdByName(key).orElse(null)));
+    }
+
+    public Optional<Long> bookId(String name) {
+        return Optional.ofNullable(bookIds.get(name, key -> bookRepository.findIdByName(key).orElse(null)));
+    }
+
+    // 여러 도서 이름 → ID (캐시에 없는 이름만 IN 조회 1회로 적재, 없는 도서는 결과에서 빠짐)
+    public Map<String, Long> bookIds(Collection<String> names) {
+        return bookIds.getAll(names, missing -> {
+            Map<String, Long> ids = new HashMap<>();
+            for (Object[] row : bookRepository.findNameAndIdByNameIn(new ArrayList<>(missing))) {
+                ids.put((String) row[0], (Long) row[1]);
+            }
+            return ids;
+        });
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 제거 (커밋 전에 제거하면 다른 요청이 변경 전 이름을 다시 적재할 수 있음)
+    public void evictUser(String name) {
+        afterCommit(USERS, name);
+    }
+
+    public void evictBook(String name) {
+        afterCommit(BOOKS, name);
+    }
+
+    public List<NameIdCacheStats> getStats() {
+        return List.of(getStats(USERS), getStats(BOOKS));
+    }
+
+    public NameIdCacheStats getStats(String cacheName) {
+        return USERS.equals(cacheName)
+                ? stats(USERS, userIds, props.getUserMaximumSize())
+                : stats(BOOKS, bookIds, props.getBookMaximumSize());
+    }
+
+    // 다른 노드의 제거 메시지 (RedisConfig의 RedisMessageListenerContainer에 등록됨), 형식: "user|book:이름"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR); // 도서 이름에는 ':'가 포함될 수 있으므로 첫 구분자만 사용
+        if (separatorIndex < 0) {
+            log.warn("[잘못된 이름 캐시 메시지] {}", body);
+            return;
+        }
+        evictLocal(body.substring(0, separatorIndex), body.substring(separatorIndex + SEPARATOR.length()));
+    }
+
+    private void afterCommit(String cacheName, String name) {
+        if (name == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndPublish(cacheName, name);
+                }
+            });
+        } else {
+            evictAndPublish(cacheName, name);
+        }
+    }
+
+    private void evictAndPublish(String cacheName, String name) {
+        evictLocal(cacheName, name); // 메시지 수신 전에도 이 노드는 바로 반영
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, cacheName + SEPARATOR + name);
+        } catch (DataAccessException e) {
+            // 발행 실패 시 다른 노드는 TTL(cache.name-id.ttl)이 지나면 만료됨
+            log.warn("[이름 캐시 제거 메시지 발행 실패] {}: {}, 이유: {}", cacheName, name, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String cacheName, String name) {
+        if (USERS.equals(cacheName)) {
+            userIds.invalidate(name);
+        } else if (BOOKS.equals(cacheName)) {
+            bookIds.invalidate(name);
+        } else {
+            log.warn("[알 수 없는 이름 캐시] {}", cacheName);
+        }
+    }
+
+    private static NameIdCacheStats stats(String cacheName, Cache<String, Long> cache, long maximumSize) {
+        CacheStats stats = cache.stats();
+        return new NameIdCacheStats(cacheName, cache.estimatedSize(), maximumSize,
+                stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.group.totalproject.cache.name;
+
+import lombok.Getter;
+
+@Getter
+public class NameIdCacheStats { // 이름 → ID 캐시 1개의 적중 통계
+
+    private final String cacheName;
+    private final long size;
+    private final long maximumSize;
+    private final long hits;
+    private final long misses;
+    private final double hitRatio;
+    private final long evictions; // 크기 제한/TTL로 제거된 항목 수 (많으면 최대 항목 수를 늘림)
+
+    public NameIdCacheStats(String cacheName, long size, long maximumSize, long hits, long misses, long evictions) {
+        this.cacheName = cacheName;
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+        this.evictions = evictions;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.group.totalproject.cache.user;
+
+import lombok.Getter;
+
+@Getter
+public class CacheMaintenanceStats { // 커밋 후 캐시 반영 작업 통계
+
+    private final int queueDepth;       // 대기 중인 이벤트 수
+    private final int queueCapacity;
+    private final long enqueued;        // 대기열에 들어온 이벤트 수
+    private final long applied;         // 병합 후 실제 반영한 변경 수
+    private final long coalesced;       // 병합으로 생략된 이벤트 수
+    private final long batches;         // 반영 횟수 (파이프라인 실행 단위)
+    private final long overflows;       // 대기열이 가득 차 캐시 전체 무효화로 대체된 횟수
+    private final long failures;        // 반영 실패 배치 수
+    private final long lastLagMillis;   // 마지막 배치의 커밋 → 반영 지연
+    private final long maxLagMillis;
+    private final double avgLagMillis;
+
+    public CacheMaintenanceStats(int queueDepth, int queueCapacity, long enqueued, long applied, long coalesced, long batches,
+                                 long overflows, long failures, long lastLagMillis, long maxLagMillis, long totalLagMillis) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.enqueued = enqueued;
+        this.applied = applied;
+        this.coalesced = coalesced;
+        this.batches = batches;
+        this.overflows = overflows;
+        this.failures = failures;
+        this.lastLagMillis = lastLagMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.avgLagMillis = batches == 0 ? 0.0 : (double) totalLagMillis / batches;
+    }
+
+}
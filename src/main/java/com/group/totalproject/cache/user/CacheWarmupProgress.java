@@ -0,0 +1,26 @@
+package com.group.totalproject.cache.user;
+
+import lombok.Getter;
+
+@Getter
+public class CacheWarmupProgress { // 캐시 워밍업 진행 상황
+
+    private final int total;
+    private final int loaded;
+    private final int failed;
+    private final double loadedRatio;
+    private final boolean ready; // 준비 비율 도달 여부 (false이면 시간 초과로 트래픽을 받기 시작한 상태일 수 있음)
+    private final boolean finished;
+    private final long elapsedMillis;
+
+    public CacheWarmupProgress(int total, int loaded, int failed, boolean ready, boolean finished, long elapsedMillis) {
+        this.total = total;
+        this.loaded = loaded;
+        this.failed = failed;
+        this.loadedRatio = total == 0 ? 1.0 : (double) loaded / total;
+        this.ready = ready;
+        this.finished = finished;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+}
@@ -0,0 +1,411 @@
+package com.group.totalproject.cache.user;
+
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.dto.user.response.UserResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 정규화된 회원 캐시
+ *  - users:ids        : Sorted Set (member = 회원 ID, score = 회원 ID)
+ *  - user:{id}        : Hash (name, age)
+ *  - users:names      : Sorted Set (member = 소문자 이름 + \0 + 원래 이름, score = 0) → 대소문자 구분 없는 이름 사전순 정렬, 자동완성용
+ *  - users:ids:ready  : 전체 회원이 적재 완료되었음을 나타내는 표시
+ * 전체 재적재는 임시 키(users:ids:rebuild, users:names:rebuild)에 적재한 뒤 Lua 스크립트로 한 번에 교체하며,
+ * 재적재 중 워커가 반영한 회원 ID는 users:ids:rebuild:changed에 기록해 교체 후 DB 기준으로 다시 맞춘다.
+ * (cursor, size) 페이지는 ZREVRANGEBYSCORE 1회 + 파이프라인 HMGET 1회로 조회하며,
+ * 이름 자동완성은 ZRANGEBYLEX 1회로 조회한다 (DB 대체 조회와 같이 소문자로 비교, 이름은 중복되지 않으므로 회원 ID 없이 이름만 저장).
+ * 회원 등록/수정/삭제는 페이지 크기와 무관하게 O(1) 명령으로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NormalizedUserCache {
+
+    private static final String IDS_KEY = "users:ids";
+    private static final String NAMES_KEY = "users:names";
+    private static final String MAX_NAME_SUFFIX = "\uFFFF"; // UTF-8 EF BF BF: 영어/한글/숫자보다 큰 바이트 → 접두어 범위의 상한
+    private static final String NAME_MEMBER_SEPARATOR = "\u0000"; // 어떤 문자보다 작은 바이트 → 소문자 이름 순으로 정렬되고, 같으면 원래 이름 순
+    private static final String READY_KEY = "users:ids:ready";
+    private static final String REBUILD_LOCK_KEY = "users:ids:rebuild-lock";
+    private static final String REBUILD_IDS_KEY = "users:ids:rebuild";
+    private static final String REBUILD_NAMES_KEY = "users:names:rebuild";
+    private static final String PREVIOUS_IDS_KEY = "users:ids:previous";
+    private static final String CHANGED_IDS_KEY = "users:ids:rebuild:changed";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int APPLY_MAX_ATTEMPTS = 3;
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final List<Object> FIELDS = List.of("name", "age");
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // 재적재 결과로 교체: 기존 ID 인덱스는 previous로 보관(남은 회원 해시 정리용), 이름 인덱스는 덮어씀
+    // KEYS: users:ids, users:ids:rebuild, users:ids:previous, users:names, users:names:rebuild
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('RENAME', KEYS[1], KEYS[3]) end " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('RENAME', KEYS[2], KEYS[1]) end " +
+            "if redis.call('EXISTS', KEYS[5]) == 1 then redis.call('RENAME', KEYS[5], KEYS[4]) else redis.call('DEL', KEYS[4]) end " +
+            "return redis.call('ZCARD', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "normalized-user-cache-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private static String userKey(long id) {
+        return USER_KEY_PREFIX + id;
+    }
+
+    // 이름 비교 키: 대소문자 구분 없이 비교 (DB 대체 조회 UserRepository.findNamesByPrefix의 LOWER(name)과 동일)
+    public static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // 이름 인덱스 member: 소문자 이름 + 구분자 + 원래 이름
+    private static String nameMember(String name) {
+        return nameKey(name) + NAME_MEMBER_SEPARATOR + name;
+    }
+
+    private static String nameOf(String member) {
+        return member.substring(member.indexOf(NAME_MEMBER_SEPARATOR) + 1);
+    }
+
+    // 페이지 조회: 적재가 완료되지 않았거나 일부 회원 해시가 없으면 Optional.empty() 반환 → 호출 측에서 DB 조회
+    public Optional<List<UserResponse>> findPage(Long cursor, int size) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+            rebuildAsync();
+            return Optional.empty();
+        }
+
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor - 1; // id < cursor
+        Set<String> ids = stringRedisTemplate.opsForZSet().reverseRangeByScore(IDS_KEY, Double.NEGATIVE_INFINITY, max, 0, size);
+        if (ids == null || ids.isEmpty()) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        List<String> orderedIds = new ArrayList<>(ids); // ZREVRANGEBYSCORE 결과 순서(id 내림차순) 유지
+        List<Object> rows = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String id : orderedIds) {
+                    ops.opsForHash().multiGet(USER_KEY_PREFIX + id, FIELDS);
+                }
+                return null;
+            }
+        });
+
+        List<UserResponse> users = new ArrayList<>(orderedIds.size());
+        for (int i = 0; i < orderedIds.size(); i++) {
+            List<?> values = (List<?>) rows.get(i);
+            if (values == null || values.get(0) == null) {
+                log.warn("[정규화 캐시 불일치] 회원 해시 없음: {}", orderedIds.get(i));
+                return Optional.empty();
+            }
+            Object age = values.get(1);
+            users.add(new UserResponse(
+                    Long.parseLong(orderedIds.get(i)),
+                    values.get(0).toString(),
+                    age == null || age.toString().isEmpty() ? null : Integer.valueOf(age.toString())
+            ));
+        }
+        return Optional.of(users);
+    }
+
+    // 이름 자동완성: prefix로 시작하는 이름을 대소문자 구분 없이 사전순으로 최대 limit개 (after가 있으면 그 이름 다음부터)
+    // 적재가 완료되지 않았으면 Optional.empty() 반환 → 호출 측에서 DB 조회
+    public Optional<List<String>> findNamesByPrefix(String prefix, String after, int limit) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+            rebuildAsync();
+            return Optional.empty();
+        }
+
+        // after가 접두어 범위보다 앞이면 무시 (String 비교 순서 = UTF-8 바이트 순서, 이름은 BMP 문자만 허용)
+        String prefixKey = nameKey(prefix);
+        Range.Bound<String> lower = after != null && nameMember(after).compareTo(prefixKey) >= 0
+                ? Range.Bound.exclusive(nameMember(after)) : Range.Bound.inclusive(prefixKey);
+        Range<String> range = Range.of(lower, Range.Bound.exclusive(prefixKey + MAX_NAME_SUFFIX));
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByLex(NAMES_KEY, range, Limit.limit().count(limit));
+        if (members == null) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        List<String> names = new ArrayList<>(members.size());
+        for (String member : members) {
+            names.add(nameOf(member));
+        }
+        return Optional.of(names);
+    }
+
+    // 여러 회원 변경을 MULTI/EXEC 1회로 반영 (UserCacheMaintenanceWorker에서 호출)
+    public void applyAll(Collection<UserChangeEvent> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // 재적재 락을 WATCH: 반영 도중 재적재가 시작/종료되면 EXEC가 취소되므로 변경 ID 기록 여부를 다시 판단해 재시도
+        for (int attempt = 1; attempt <= APPLY_MAX_ATTEMPTS; attempt++) {
+            List<Object> results = stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.watch(REBUILD_LOCK_KEY);
+                    boolean rebuildInProgress = Boolean.TRUE.equals(ops.hasKey(REBUILD_LOCK_KEY));
+                    ops.multi();
+                    applyChanges(ops, changes);
+                    if (rebuildInProgress) {
+                        // 재적재가 이미 읽은 DB 스냅샷보다 새로운 변경 → 교체 후 다시 맞출 대상으로 기록
+                        ops.opsForSet().add(CHANGED_IDS_KEY, changes.stream().map(change -> String.valueOf(change.getUserId())).toArray(String[]::new));
+                        ops.expire(CHANGED_IDS_KEY, REBUILD_LOCK_TTL.multipliedBy(2));
+                    }
+                    return ops.exec();
+                }
+            });
+            if (results != null && !results.isEmpty()) {
+                return;
+            }
+        }
+        throw new IllegalStateException("정규화 캐시 반영이 재적재와 계속 충돌했습니다.");
+    }
+
+    private static void applyChanges(RedisOperations<String, String> ops, Collection<UserChangeEvent> changes) {
+        for (UserChangeEvent change : changes) {
+            long id = change.getUserId();
+            switch (change.getType()) {
+                case CREATED:
+                    ops.opsForZSet().add(IDS_KEY, String.valueOf(id), id);
+                    ops.opsForHash().putAll(userKey(id), fields(change.getName(), change.getAge()));
+                    ops.opsForZSet().add(NAMES_KEY, nameMember(change.getName()), 0);
+                    break;
+                case RENAMED:
+                    ops.opsForHash().put(userKey(id), "name", change.getName());
+                    if (change.getPreviousName() != null) {
+                        ops.opsForZSet().remove(NAMES_KEY, nameMember(change.getPreviousName()));
+                    }
+                    ops.opsForZSet().add(NAMES_KEY, nameMember(change.getName()), 0);
+                    break;
+                case DELETED:
+                    ops.opsForZSet().remove(IDS_KEY, String.valueOf(id));
+                    ops.delete(userKey(id));
+                    if (change.getPreviousName() != null) {
+                        ops.opsForZSet().remove(NAMES_KEY, nameMember(change.getPreviousName()));
+                    }
+                    break;
+            }
+        }
+    }
+
+    // 변경 반영이 누락되었을 수 있을 때(대기열 초과 등) 적재 완료 표시를 지워 다음 조회 시 전체 재적재
+    public void invalidate() {
+        stringRedisTemplate.delete(READY_KEY);
+    }
+
+    @EventListener(ApplicationReadyEvent.class) // 애플리케이션 기동 완료 후 적재 여부 확인
+    public void rebuildOnStartup() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+                rebuildAsync();
+            }
+        } catch (DataAccessException e) {
+            log.warn("[정규화 캐시 적재 확인 실패] 이유: {}", e.getMessage());
+        }
+    }
+
+    // 전체 회원을 id 내림차순 키셋 페이징으로 읽어 적재 (노드 간 중복 실행은 Redis 락으로 방지)
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            try {
+                Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return; // 다른 노드에서 적재 중
+                }
+
+                try {
+                    long count = rebuild();
+                    stringRedisTemplate.opsForValue().set(READY_KEY, "1");
+                    log.info("[정규화 캐시 적재 완료] 회원 수: {}", count);
+                } finally {
+                    stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+                }
+            } catch (RuntimeException e) {
+                log.error("[정규화 캐시 적재 실패] 이유: {}", e.getMessage());
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private long rebuild() {
+        // 이전 재적재가 중단되며 남긴 임시 키 정리 (변경 ID 기록은 락을 잡은 지금부터 유효)
+        stringRedisTemplate.delete(List.of(REBUILD_IDS_KEY, REBUILD_NAMES_KEY, CHANGED_IDS_KEY));
+        Pageable chunk = PageRequest.of(0, REBUILD_CHUNK_SIZE);
+        List<UserResponse> users = userRepository.findResponsesOrderByIdDesc(chunk); // 엔티티 없이 DTO 프로젝션으로 조회
+        long count = 0;
+
+        while (!users.isEmpty()) {
+            List<UserResponse> batch = users;
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (UserResponse user : batch) {
+                        // ID/이름 인덱스는 임시 키에 적재 (교체 전까지 조회는 기존 인덱스 사용), 회원 해시는 바로 덮어씀
+                        ops.opsForZSet().add(REBUILD_IDS_KEY, String.valueOf(user.getId()), user.getId());
+                        ops.opsForHash().putAll(userKey(user.getId()), fields(user.getName(), user.getAge()));
+                        ops.opsForZSet().add(REBUILD_NAMES_KEY, nameMember(user.getName()), 0);
+                    }
+                    ops.expire(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL); // 회원 수가 많아도 적재 도중 락이 만료되지 않도록 연장
+                    return null;
+                }
+            });
+
+            count += batch.size();
+            long lastId = batch.get(batch.size() - 1).getId();
+            users = userRepository.findResponsesByIdLessThanOrderByIdDesc(lastId, chunk);
+        }
+
+        stringRedisTemplate.execute(SWAP_SCRIPT, List.of(IDS_KEY, REBUILD_IDS_KEY, PREVIOUS_IDS_KEY, NAMES_KEY, REBUILD_NAMES_KEY));
+        resyncChangedUsers();
+        removeStaleUsers();
+        return count;
+    }
+
+    // 재적재 중 워커가 반영한 회원을 DB 기준으로 다시 맞춤 (스냅샷 이후 변경이 임시 키에 빠졌거나 오래된 해시로 덮어써졌을 수 있음)
+    // 락을 잡고 있는 동안 워커가 계속 기록하므로 기록이 비워질 때까지 반복
+    private void resyncChangedUsers() {
+        List<String> ids;
+        while ((ids = stringRedisTemplate.opsForSet().pop(CHANGED_IDS_KEY, REBUILD_CHUNK_SIZE)) != null && !ids.isEmpty()) {
+            List<Long> userIds = ids.stream().map(Long::valueOf).toList();
+            Map<Long, UserResponse> current = new HashMap<>();
+            for (UserResponse user : userRepository.findResponsesByIdIn(userIds)) {
+                current.put(user.getId(), user);
+            }
+
+            List<Object> cachedNames = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Long id : userIds) {
+                        ops.opsForHash().get(userKey(id), "name");
+                    }
+                    return null;
+                }
+            });
+
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (int i = 0; i < userIds.size(); i++) {
+                        long id = userIds.get(i);
+                        Object cachedName = cachedNames.get(i);
+                        UserResponse user = current.get(id);
+                        if (cachedName != null && (user == null || !user.getName().equals(cachedName))) {
+                            ops.opsForZSet().remove(NAMES_KEY, nameMember(cachedName.toString()));
+                        }
+                        if (user == null) { // 삭제된 회원
+                            ops.opsForZSet().remove(IDS_KEY, String.valueOf(id));
+                            ops.delete(userKey(id));
+                        } else {
+                            ops.opsForZSet().add(IDS_KEY, String.valueOf(id), id);
+                            ops.opsForHash().putAll(userKey(id), fields(user.getName(), user.getAge()));
+                            ops.opsForZSet().add(NAMES_KEY, nameMember(user.getName()), 0);
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+
+    // 교체 전 ID 인덱스에만 있던 회원(무효화 중 삭제 누락)의 해시 삭제
+    private void removeStaleUsers() {
+        List<String> previousIds = new ArrayList<>(REBUILD_CHUNK_SIZE);
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet()
+                .scan(PREVIOUS_IDS_KEY, ScanOptions.scanOptions().count(REBUILD_CHUNK_SIZE).build())) {
+            while (cursor.hasNext()) {
+                previousIds.add(cursor.next().getValue());
+                if (previousIds.size() == REBUILD_CHUNK_SIZE || !cursor.hasNext()) {
+                    removeUsersNotIn(previousIds);
+                    previousIds.clear();
+                }
+            }
+        }
+        stringRedisTemplate.delete(PREVIOUS_IDS_KEY);
+    }
+
+    private void removeUsersNotIn(List<String> ids) {
+        List<Object> scores = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String id : ids) {
+                    ops.opsForZSet().score(IDS_KEY, id);
+                }
+                return null;
+            }
+        });
+
+        List<String> staleKeys = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (scores.get(i) == null) {
+                staleKeys.add(USER_KEY_PREFIX + ids.get(i));
+            }
+        }
+        if (!staleKeys.isEmpty()) {
+            stringRedisTemplate.delete(staleKeys);
+        }
+    }
+
+    private static Map<String, String> fields(String name, Integer age) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("name", name);
+        fields.put("age", age == null ? "" : age.toString());
+        return fields;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.group.totalproject.cache.user;
+
+import lombok.Getter;
+
+/**
+ * 회원 일괄 변경 이벤트 (일괄 등록 등)
+ * 건별 UserChangeEvent 대신 배치당 1건 발행하며, 커밋 후 UserCacheMaintenanceWorker가 회원 캐시를 한 번 무효화한다.
+ */
+@Getter
+public class UserBulkChangeEvent {
+
+    private final int count; // 등록된 회원 수 (회원 수 카운터 반영)
+
+    public UserBulkChangeEvent(int count) {
+        this.count = count;
+    }
+
+}
@@ -0,0 +1,500 @@
+package com.group.totalproject.cache.user;
+
+import com.group.totalproject.cache.TwoLevelCache;
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.codec.CacheCodec;
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.counter.CollectionVersion;
+import com.group.totalproject.counter.CollectionVersionService;
+import com.group.totalproject.counter.EntityCounter;
+import com.group.totalproject.counter.EntityCounterService;
+import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.prop.CacheMaintenanceProps;
+import com.group.totalproject.prop.UserCacheProps;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 변경의 캐시 반영 작업 (트랜잭션 커밋 후 비동기 처리)
+ *  - UserServiceV2는 UserChangeEvent만 발행하고, 커밋된 경우에만 대기열에 들어옴 (롤백된 변경은 캐시에 반영되지 않음)
+ *  - 전용 스레드가 대기열을 묶음 단위로 꺼내 같은 회원의 연속 변경을 병합한 뒤 파이프라인으로 반영
+ *    (정규화 캐시 1회, 역 인덱스 조회 1회, 페이지 수정 1회, 역 인덱스 갱신 1회)
+ *  - 페이지 수정은 JSON 코덱이면 Lua 스크립트(UserPagePatcher)로 페이지마다 원자적으로, binary 코덱이면 GET 후 Lua 비교 후 저장(CAS)으로 반영
+ *  - 대기열이 가득 차면 요청 스레드가 잠시 대기(backpressure)하고, 그래도 넣지 못하면 캐시 전체 무효화로 대체
+ *  - 일괄 변경(UserBulkChangeEvent)은 건별 반영 없이 배치당 한 번 전체 무효화
+ *  - 회원 목록 버전(ETag)은 페이지 수정/무효화를 마친 뒤 올림 → 새 ETag로 변경 전 페이지가 응답되지 않음
+ *  - 회원 수 카운터, 대출 목록 버전, 이름 → ID 캐시 제거 메시지도 이 스레드에서 반영 (요청 스레드는 Redis를 기다리지 않음)
+ */
+@Slf4j
+@Component
+public class UserCacheMaintenanceWorker {
+
+    // binary 코덱 페이지 저장: 현재 값이 읽은 값(ARGV[1])과 같을 때만 수정한 값(ARGV[2])을 남은 TTL로 저장 (user-page-patch.lua와 같은 TTL 유지 방식)
+    private static final byte[] PAGE_COMPARE_AND_SET_SCRIPT = (
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "local ttl = redis.call('PTTL', KEYS[1]) "
+                    + "if ttl > 0 then redis.call('SET', KEYS[1], ARGV[2], 'PX', ttl) else redis.call('SET', KEYS[1], ARGV[2]) end "
+                    + "return 1").getBytes(StandardCharsets.UTF_8);
+    private static final int PAGE_PATCH_MAX_ATTEMPTS = 3;
+
+    private final RedisTemplate<String, List<UserResponse>> redisTemplate;
+    private final UserPageIndex userPageIndex;
+    private final NormalizedUserCache normalizedUserCache;
+    private final TwoLevelCacheManager userCacheManager;
+    private final UserPagePatcher userPagePatcher;
+    private final CacheMaintenanceProps props;
+    private final UserCacheProps userCacheProps;
+    private final CollectionVersionService collectionVersionService;
+    private final EntityCounterService entityCounterService;
+    private final NameIdCache nameIdCache;
+
+    private final BlockingQueue<QueuedChange> queue;
+    private final AtomicBoolean fullInvalidationPending = new AtomicBoolean(false); // 대기열 초과/일괄 변경 → 다음 반영 때 전체 무효화
+    private final AtomicLong pendingBulkUserCount = new AtomicLong(); // 일괄 등록된 회원 수 → 다음 반영 때 카운터에 한 번에 반영
+    private volatile boolean running = true;
+    private Thread workerThread;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public UserCacheMaintenanceWorker(RedisTemplate<String, List<UserResponse>> redisTemplate,
+                                      UserPageIndex userPageIndex,
+                                      NormalizedUserCache normalizedUserCache,
+                                      TwoLevelCacheManager userCacheManager,
+                                      UserPagePatcher userPagePatcher,
+                                      CacheMaintenanceProps props,
+                                      UserCacheProps userCacheProps,
+                                      CollectionVersionService collectionVersionService,
+                                      EntityCounterService entityCounterService,
+                                      NameIdCache nameIdCache) {
+        this.redisTemplate = redisTemplate;
+        this.userPageIndex = userPageIndex;
+        this.normalizedUserCache = normalizedUserCache;
+        this.userCacheManager = userCacheManager;
+        this.userPagePatcher = userPagePatcher;
+        this.props = props;
+        this.userCacheProps = userCacheProps;
+        this.collectionVersionService = collectionVersionService;
+        this.entityCounterService = entityCounterService;
+        this.nameIdCache = nameIdCache;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        workerThread = new Thread(this::runLoop, "user-cache-maintenance");
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workerThread.interrupt();
+    }
+
+    // 커밋 후에만 실행 (트랜잭션 밖에서 발행된 이벤트는 즉시 실행)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        try {
+            if (queue.offer(new QueuedChange(event), props.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                enqueued.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        overflows.increment();
+        fullInvalidationPending.set(true);
+        applyCountersAndNames(List.of(event)); // 캐시는 전체 무효화로 복구되지만 카운터/이름 캐시 제거는 누락되지 않도록 바로 반영
+        log.warn("[캐시 반영 대기열 초과] 회원 ID: {}, 다음 반영 시 회원 캐시 전체 무효화", event.getUserId());
+    }
+
+    // 일괄 변경(일괄 등록 등): 건별로 페이지를 수정하지 않고 다음 반영 때 회원 캐시를 한 번 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserBulkChange(UserBulkChangeEvent event) {
+        pendingBulkUserCount.addAndGet(event.getCount());
+        fullInvalidationPending.set(true);
+        log.info("[회원 일괄 변경] 회원 수: {}, 다음 반영 시 회원 캐시 전체 무효화", event.getCount());
+    }
+
+    public CacheMaintenanceStats getStats() {
+        return new CacheMaintenanceStats(
+                queue.size(),
+                props.getQueueCapacity(),
+                enqueued.sum(),
+                applied.sum(),
+                coalesced.sum(),
+                batches.sum(),
+                overflows.sum(),
+                failures.sum(),
+                lastLagMillis.get(),
+                maxLagMillis.get(),
+                totalLagMillis.sum()
+        );
+    }
+
+    private void runLoop() {
+        List<QueuedChange> batch = new ArrayList<>(props.getBatchSize());
+        while (running) {
+            try {
+                QueuedChange first = queue.poll(1, TimeUnit.SECONDS);
+                long bulkUserCount = pendingBulkUserCount.getAndSet(0);
+                if (bulkUserCount != 0) {
+                    entityCounterService.add(EntityCounter.USER, bulkUserCount);
+                }
+                if (fullInvalidationPending.getAndSet(false)) {
+                    invalidateAll();
+                }
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, props.getBatchSize() - batch.size());
+                if (batch.size() < props.getBatchSize() && !props.getLinger().isZero()) {
+                    Thread.sleep(props.getLinger().toMillis()); // 연속된 변경을 한 번에 묶기 위해 잠시 대기
+                    queue.drainTo(batch, props.getBatchSize() - batch.size());
+                }
+
+                applyBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                fullInvalidationPending.set(true); // 반영하지 못한 변경이 남지 않도록 다음 반영 때 전체 무효화
+                log.error("[캐시 반영 실패] 이벤트 수: {}, 이유: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void applyBatch(List<QueuedChange> batch) {
+        List<UserChangeEvent> events = new ArrayList<>(batch.size());
+        for (QueuedChange queued : batch) {
+            events.add(queued.event);
+        }
+        applyCountersAndNames(events); // 캐시 반영이 실패해도 누락되지 않도록 먼저 반영
+
+        // 같은 회원의 연속 변경 병합 (순서 유지)
+        Map<Long, UserChangeEvent> merged = new LinkedHashMap<>();
+        for (UserChangeEvent event : events) {
+            UserChangeEvent previous = merged.remove(event.getUserId());
+            UserChangeEvent result = previous == null ? event : previous.merge(event);
+            if (result != null) {
+                merged.put(event.getUserId(), result);
+            }
+        }
+
+        Collection<UserChangeEvent> changes = merged.values();
+        normalizedUserCache.applyAll(changes);
+        patchPages(changes);
+        if (!changes.isEmpty()) {
+            collectionVersionService.bump(CollectionVersion.USERS); // 페이지 반영 후 버전 +1
+        }
+
+        long lag = System.currentTimeMillis() - batch.get(0).enqueuedAt; // 가장 오래 기다린 이벤트 기준
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+        totalLagMillis.add(lag);
+        batches.increment();
+        applied.add(changes.size());
+        coalesced.add(batch.size() - changes.size());
+    }
+
+    // 회원 수 증감과 대출 목록 버전은 묶음당 한 번 반영, 이름 → ID 캐시는 병합 전 이벤트마다 제거
+    // (이름을 A → B → C로 바꾼 경우 다른 노드에 B도 적재되어 있을 수 있음), 각 서비스가 Redis 오류를 로그로 처리하므로 예외 없음
+    private void applyCountersAndNames(List<UserChangeEvent> events) {
+        long userDelta = 0;
+        boolean loansChanged = false;
+        for (UserChangeEvent event : events) {
+            switch (event.getType()) {
+                case CREATED:
+                    userDelta++;
+                    break;
+                case RENAMED:
+                    loansChanged = true; // 대출 목록에 회원 이름이 포함됨
+                    nameIdCache.evictUser(event.getPreviousName());
+                    break;
+                case DELETED:
+                    userDelta--;
+                    loansChanged = true; // 삭제된 회원의 (반납 완료) 대출 기록도 함께 삭제됨
+                    nameIdCache.evictUser(event.getPreviousName());
+                    break;
+            }
+        }
+
+        if (userDelta != 0) {
+            entityCounterService.add(EntityCounter.USER, userDelta);
+        }
+        if (loansChanged) {
+            collectionVersionService.bump(CollectionVersion.LOANS);
+        }
+    }
+
+    // 영향받는 페이지 캐시를 모아 페이지당 한 번만 수정
+    private void patchPages(Collection<UserChangeEvent> changes) {
+        Map<String, List<UserChangeEvent>> changesByPage = new LinkedHashMap<>();
+        List<UserChangeEvent> createdUsers = new ArrayList<>();
+        List<UserChangeEvent> existingUsers = new ArrayList<>();
+        List<Long> removedUserIds = new ArrayList<>();
+        for (UserChangeEvent change : changes) {
+            if (change.getType() == UserChangeEvent.Type.CREATED) {
+                createdUsers.add(change);
+            } else {
+                existingUsers.add(change);
+            }
+            if (change.getType() == UserChangeEvent.Type.DELETED) {
+                removedUserIds.add(change.getUserId());
+            }
+        }
+
+        // 새 회원은 캐시된 모든 첫 페이지(페이지 크기별)에 추가
+        Set<String> firstPageKeys = createdUsers.isEmpty() ? Collections.emptySet() : userPageIndex.findFirstPageKeys();
+        for (String pageKey : firstPageKeys) {
+            changesByPage.computeIfAbsent(pageKey, k -> new ArrayList<>()).addAll(createdUsers);
+        }
+
+        List<Long> existingIds = new ArrayList<>(existingUsers.size());
+        for (UserChangeEvent change : existingUsers) {
+            existingIds.add(change.getUserId());
+        }
+        List<Set<String>> pageKeysByUser = userPageIndex.findPageKeys(existingIds); // 역 인덱스 조회 (파이프라인 1회)
+        for (int i = 0; i < existingUsers.size(); i++) {
+            for (String pageKey : pageKeysByUser.get(i)) {
+                changesByPage.computeIfAbsent(pageKey, k -> new ArrayList<>()).add(existingUsers.get(i));
+            }
+        }
+
+        List<String> pageKeys = new ArrayList<>(changesByPage.keySet());
+        List<List<UserChangeEvent>> pageChangeLists = new ArrayList<>(changesByPage.values());
+        List<boolean[]> appliedByPage = userCacheProps.getCodec() == CacheCodec.JSON
+                ? userPagePatcher.patchAll(pageKeys, pageChangeLists) // Lua 스크립트로 Redis 안에서 원자적으로 수정 (파이프라인 1회)
+                : patchInMemory(pageKeys, pageChangeLists);           // 이진 포맷은 스크립트로 수정할 수 없으므로 읽어서 수정 후 저장
+
+        Set<String> patchedPageKeys = new LinkedHashSet<>();
+        Map<Long, Set<String>> registrations = new HashMap<>();
+        Map<Long, Set<String>> unregistrations = new HashMap<>();
+        List<String> expiredFirstPageKeys = new ArrayList<>();
+
+        for (int i = 0; i < pageKeys.size(); i++) {
+            String pageKey = pageKeys.get(i);
+            boolean[] applied = appliedByPage.get(i);
+            List<UserChangeEvent> pageChanges = pageChangeLists.get(i);
+
+            if (applied == null) { // 만료된 페이지: 역 인덱스/첫 페이지 키 목록에서 제거
+                if (firstPageKeys.contains(pageKey)) {
+                    expiredFirstPageKeys.add(pageKey);
+                }
+                for (UserChangeEvent change : pageChanges) {
+                    if (change.getType() != UserChangeEvent.Type.CREATED) {
+                        unregistrations.computeIfAbsent(change.getUserId(), k -> new HashSet<>()).add(pageKey);
+                    }
+                }
+                invalidateLocalPage(pageKey); // L2는 만료되었지만 L1에 남아있을 수 있는 항목 제거
+                continue;
+            }
+
+            for (int j = 0; j < pageChanges.size(); j++) {
+                UserChangeEvent change = pageChanges.get(j);
+                if (applied[j]) {
+                    patchedPageKeys.add(pageKey);
+                    if (change.getType() == UserChangeEvent.Type.CREATED) {
+                        registrations.computeIfAbsent(change.getUserId(), k -> new HashSet<>()).add(pageKey);
+                    }
+                } else if (change.getType() == UserChangeEvent.Type.RENAMED) {
+                    unregistrations.computeIfAbsent(change.getUserId(), k -> new HashSet<>()).add(pageKey); // 더 이상 해당 회원을 포함하지 않는 페이지
+                }
+            }
+        }
+
+        userPageIndex.applyAll(registrations, unregistrations, removedUserIds, expiredFirstPageKeys);
+        for (String pageKey : patchedPageKeys) {
+            invalidateLocalPage(pageKey); // 모든 노드의 L1 캐시 무효화 (pub/sub)
+        }
+    }
+
+    // binary 코덱: 페이지를 읽어(GET, 파이프라인 1회) 수정한 뒤 읽은 값과 같을 때만 기존 TTL로 저장(Lua 비교 후 저장, 파이프라인 1회)
+    // 읽기와 저장 사이에 다른 노드가 같은 페이지를 수정했으면 다시 읽어 반영, PAGE_PATCH_MAX_ATTEMPTS회 모두 실패하면 페이지 삭제
+    // 결과 형식은 UserPagePatcher.patchAll과 동일 (페이지 없으면 null, 있으면 변경별 반영 여부)
+    private List<boolean[]> patchInMemory(List<String> pageKeys, List<List<UserChangeEvent>> changesByPage) {
+        List<boolean[]> appliedByPage = new ArrayList<>(Collections.nCopies(pageKeys.size(), null));
+        List<Integer> pending = new ArrayList<>(pageKeys.size());
+        for (int i = 0; i < pageKeys.size(); i++) {
+            pending.add(i);
+        }
+
+        for (int attempt = 1; attempt <= PAGE_PATCH_MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            List<String> pendingKeys = new ArrayList<>(pending.size());
+            for (int i : pending) {
+                pendingKeys.add(pageKeys.get(i));
+            }
+            List<Object> pages = readRawPages(pendingKeys);
+
+            Map<Integer, byte[][]> writes = new LinkedHashMap<>(); // 페이지 위치 → (읽은 값, 수정한 값)
+            for (int k = 0; k < pending.size(); k++) {
+                int i = pending.get(k);
+                byte[] cached = (byte[]) pages.get(k);
+                List<UserResponse> cachedUsers = cached != null ? pageSerializer().deserialize(cached) : null;
+                if (cachedUsers == null) {
+                    appliedByPage.set(i, null);
+                    continue;
+                }
+
+                List<UserChangeEvent> pageChanges = changesByPage.get(i);
+                List<UserResponse> patched = new ArrayList<>(cachedUsers);
+                boolean[] applied = new boolean[pageChanges.size()];
+                boolean changed = false;
+                for (int j = 0; j < pageChanges.size(); j++) {
+                    applied[j] = applyChange(patched, pageChanges.get(j));
+                    changed |= applied[j];
+                }
+                appliedByPage.set(i, applied);
+
+                if (changed) {
+                    writes.put(i, new byte[][]{cached, pageSerializer().serialize(patched)});
+                }
+            }
+
+            pending = compareAndSetPages(pageKeys, writes); // 다른 노드가 먼저 수정한 페이지 → 다시 읽어 반영
+        }
+
+        for (int i : pending) {
+            log.warn("[페이지 수정 충돌] pageKey: {} → 페이지 삭제 (다음 조회 때 DB에서 다시 적재)", pageKeys.get(i));
+            userCacheManager.getCache(UserPageIndex.CACHE_NAME).evict(UserPageIndex.toCacheKey(pageKeys.get(i))); // L2 삭제 + 모든 노드 L1 무효화
+            appliedByPage.set(i, null);
+        }
+        return appliedByPage;
+    }
+
+    // 페이지 1개에 변경 1건 반영, 페이지가 바뀌었으면 true (user-page-patch.lua와 같은 규칙)
+    private static boolean applyChange(List<UserResponse> page, UserChangeEvent change) {
+        switch (change.getType()) {
+            case CREATED:
+                if (page.isEmpty() || page.stream().anyMatch(u -> u.getId() == change.getUserId())) {
+                    return false; // 비어있는 첫 페이지는 다음 조회 때 DB에서 채움, 이미 포함된 회원은 건너뜀
+                }
+                // id 내림차순 위치에 추가 (회원 ID는 채번 순서대로 증가하지만 커밋 순서는 다를 수 있으므로 맨 앞이 아닌 정렬 위치)
+                for (int i = 0; i < page.size(); i++) {
+                    if (page.get(i).getId() < change.getUserId()) {
+                        page.add(i, new UserResponse(change.getUserId(), change.getName(), change.getAge()));
+                        return true;
+                    }
+                }
+                return false; // 페이지의 모든 ID보다 작으면 이 페이지 범위가 아님
+            case RENAMED:
+                boolean updated = false;
+                for (int i = 0; i < page.size(); i++) {
+                    UserResponse u = page.get(i);
+                    if (u.getId() == change.getUserId()) {
+                        page.set(i, new UserResponse(u.getId(), change.getName(), u.getAge()));
+                        updated = true;
+                    }
+                }
+                return updated;
+            case DELETED:
+                return page.removeIf(u -> u.getId() == change.getUserId());
+            default:
+                return false;
+        }
+    }
+
+    // 페이지 원본 바이트 조회 (비교 후 저장의 기준 값)
+    private List<Object> readRawPages(List<String> pageKeys) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String pageKey : pageKeys) {
+                connection.stringCommands().get(pageKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+    }
+
+    // 페이지별 비교 후 저장 (파이프라인 1회), 저장하지 못한 페이지 위치 반환
+    private List<Integer> compareAndSetPages(List<String> pageKeys, Map<Integer, byte[][]> writes) {
+        if (writes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> indexes = new ArrayList<>(writes.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i : indexes) {
+                byte[][] write = writes.get(i);
+                connection.scriptingCommands().eval(PAGE_COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, 1,
+                        pageKeys.get(i).getBytes(StandardCharsets.UTF_8), write[0], write[1]);
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<Integer> conflicts = new ArrayList<>();
+        for (int k = 0; k < indexes.size(); k++) {
+            if (!Long.valueOf(1L).equals(results.get(k))) {
+                conflicts.add(indexes.get(k));
+            }
+        }
+        return conflicts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<List<UserResponse>> pageSerializer() {
+        return (RedisSerializer<List<UserResponse>>) redisTemplate.getValueSerializer();
+    }
+
+    // 대기열 초과/반영 실패로 누락된 변경이 있거나 일괄 변경이 있으면 회원 캐시 전체 무효화
+    private void invalidateAll() {
+        try {
+            userCacheManager.getCache(UserPageIndex.CACHE_NAME).clear(); // 페이지 캐시(L2) 삭제 + 모든 노드 L1 무효화
+            normalizedUserCache.invalidate(); // 정규화 캐시는 다음 조회 시 재적재
+            collectionVersionService.bump(CollectionVersion.USERS);
+            log.warn("[회원 캐시 전체 무효화] 누락된 변경 또는 일괄 변경 반영");
+        } catch (DataAccessException e) {
+            fullInvalidationPending.set(true); // 다음 반영 때 다시 시도
+            log.error("[회원 캐시 전체 무효화 실패] 이유: {}", e.getMessage());
+        }
+    }
+
+    // Redis(L2) 페이지를 직접 수정한 경우 이 노드의 L1 항목을 즉시 제거하고 다른 노드에도 무효화 메시지 발행
+    private void invalidateLocalPage(String pageKey) {
+        TwoLevelCache cache = userCacheManager.getCache(UserPageIndex.CACHE_NAME);
+        cache.invalidate(UserPageIndex.toCacheKey(pageKey));
+    }
+
+    private static class QueuedChange { // 대기열 항목: 이벤트 + 대기열에 들어온 시각 (지연 측정용)
+
+        private final UserChangeEvent event;
+        private final long enqueuedAt = System.currentTimeMillis();
+
+        private QueuedChange(UserChangeEvent event) {
+            this.event = event;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.group.totalproject.cache.user;
+
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.prop.CacheWarmupProps;
+import com.group.totalproject.service.user.UserServiceV2;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 회원 페이지 캐시 워밍업
+ *  - 설정된 페이지 크기별로 앞쪽 N개 커서 페이지를 병렬로 적재 (getUsersWithCache 호출 → L2/L1 캐시 적재)
+ *  - ApplicationRunner는 ReadinessState.ACCEPTING_TRAFFIC 발행 전에 실행되므로,
+ *    준비 비율(readyFraction)을 채울 때까지 run()에서 대기하여 트래픽 유입을 늦춤 (timeout이 지나면 대기 종료)
+ *  - 남은 페이지는 트래픽을 받기 시작한 뒤에도 백그라운드에서 계속 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheWarmer implements ApplicationRunner {
+
+    private final UserServiceV2 userService;
+    private final UserRepository userRepository;
+    private final CacheWarmupProps props;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger(); // 성공 + 실패
+    private volatile boolean ready;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        startedAt = System.currentTimeMillis();
+        List<WarmupPage> pages;
+        try {
+            pages = planPages();
+        } catch (DataAccessException e) {
+            // DB 연결 실패로 기동이 중단되지 않도록 워밍업 없이 트래픽 수신 (페이지는 첫 조회 때 적재)
+            log.error("[캐시 워밍업 건너뜀] 커서 조회 실패, 이유: {}", e.getMessage());
+            markFinished();
+            return;
+        }
+        total.set(pages.size());
+        if (pages.isEmpty()) {
+            markFinished();
+            return;
+        }
+
+        int required = (int) Math.ceil(pages.size() * props.getReadyFraction());
+        CountDownLatch readyLatch = new CountDownLatch(required);
+        log.info("[캐시 워밍업 시작] 페이지 수: {}, 준비 기준: {}개", pages.size(), required);
+
+        ExecutorService executor = Executors.newFixedThreadPool(props.getThreads(), r -> {
+            Thread thread = new Thread(r, "user-cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (WarmupPage page : pages) {
+            executor.execute(() -> load(page, readyLatch));
+        }
+        executor.shutdown(); // 제출된 작업이 끝나면 스레드 종료
+
+        ready = readyLatch.await(props.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (ready) {
+            log.info("[캐시 워밍업 준비 완료] {}/{} 적재, {}ms", loaded.get(), pages.size(), System.currentTimeMillis() - startedAt);
+        } else {
+            log.warn("[캐시 워밍업 시간 초과] {}/{} 적재 상태로 트래픽 수신 시작", loaded.get(), pages.size());
+        }
+    }
+
+    public CacheWarmupProgress getProgress() {
+        long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        return new CacheWarmupProgress(
+                total.get(),
+                loaded.get(),
+                failed.get(),
+                ready,
+                finishedAt > 0,
+                startedAt > 0 ? end - startedAt : 0
+        );
+    }
+
+    private void load(WarmupPage page, CountDownLatch readyLatch) {
+        try {
+            userService.getUsersWithCache(page.cursor, page.size); // @Cacheable 프록시를 거쳐 캐시에 적재
+            loaded.incrementAndGet();
+            readyLatch.countDown();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("[캐시 워밍업 실패] cursor: {}, size: {}, 이유: {}", page.cursor, page.size, e.getMessage());
+        }
+
+        int done = completed.incrementAndGet();
+        if (done == total.get()) {
+            markFinished();
+            log.info("[캐시 워밍업 완료] 적재: {}, 실패: {}, {}ms", loaded.get(), failed.get(), finishedAt - startedAt);
+        } else if (done % Math.max(1, total.get() / 10) == 0) {
+            log.info("[캐시 워밍업 진행] {}/{}", done, total.get());
+        }
+    }
+
+    private void markFinished() {
+        finishedAt = System.currentTimeMillis();
+    }
+
+    // 페이지 크기별 앞쪽 N개 페이지의 커서 계산: ID 목록 1회 조회 후 size번째마다 다음 페이지 커서로 사용
+    private List<WarmupPage> planPages() {
+        List<WarmupPage> pages = new ArrayList<>();
+        for (int size : props.getPageSizes()) {
+            List<Long> ids = userRepository.findIdsOrderByIdDesc(PageRequest.of(0, size * props.getPagesPerSize()));
+            Long cursor = null; // 첫 페이지는 cursor 없음
+            for (int page = 0; page < props.getPagesPerSize(); page++) {
+                if (page > 0) {
+                    int index = page * size - 1;
+                    if (index >= ids.size()) {
+                        break; // 회원 수가 부족하여 더 이상 페이지 없음
+                    }
+                    cursor = ids.get(index); // 이전 페이지 마지막 ID가 다음 페이지 커서
+                }
+                pages.add(new WarmupPage(cursor, size));
+            }
+        }
+        return pages;
+    }
+
+    private static class WarmupPage {
+
+        private final Long cursor;
+        private final int size;
+
+        private WarmupPage(Long cursor, int size) {
+            this.cursor = cursor;
+            this.size = size;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.group.totalproject.cache.user;
+
+import lombok.Getter;
+
+/**
+ * 회원 변경 이벤트 (트랜잭션 커밋 후 UserCacheMaintenanceWorker가 캐시에 반영)
+ *  - CREATED: 정규화 캐시/이름 인덱스 추가 + 캐시된 모든 첫 페이지(페이지 크기별)에 추가
+ *  - RENAMED: 정규화 캐시 이름 변경 + 이름 인덱스 교체(previousName → name) + 역 인덱스로 찾은 페이지 캐시의 이름 변경
+ *  - DELETED: 정규화 캐시/이름 인덱스 삭제(previousName) + 역 인덱스로 찾은 페이지 캐시에서 제거
+ */
+@Getter
+public class UserChangeEvent {
+
+    public enum Type { CREATED, RENAMED, DELETED }
+
+    private final Type type;
+    private final long userId;
+    private final String name;
+    private final Integer age;
+    private final String previousName; // RENAMED/DELETED: 캐시에 반영되어 있는 이름 (이름 인덱스에서 제거할 값)
+
+    private UserChangeEvent(Type type, long userId, String name, Integer age, String previousName) {
+        this.type = type;
+        this.userId = userId;
+        this.name = name;
+        this.age = age;
+        this.previousName = previousName;
+    }
+
+    public static UserChangeEvent created(long userId, String name, Integer age) {
+        return new UserChangeEvent(Type.CREATED, userId, name, age, null);
+    }
+
+    public static UserChangeEvent renamed(long userId, String name, String previousName) {
+        return new UserChangeEvent(Type.RENAMED, userId, name, null, previousName);
+    }
+
+    public static UserChangeEvent deleted(long userId, String name) {
+        return new UserChangeEvent(Type.DELETED, userId, null, null, name);
+    }
+
+    // 같은 회원의 이전 이벤트(this)와 다음 이벤트(next)를 하나로 합침, 둘이 서로 상쇄되면 null
+    UserChangeEvent merge(UserChangeEvent next) {
+        if (type == Type.CREATED && next.type == Type.RENAMED) {
+            return created(userId, next.name, age); // 아직 반영 전이므로 바뀐 이름으로 등록
+        }
+        if (type == Type.CREATED && next.type == Type.DELETED) {
+            return null; // 등록 후 바로 삭제 → 반영할 것 없음
+        }
+        // RENAMED → RENAMED/DELETED: 마지막 상태만 반영, 이름 인덱스에서 제거할 이름은 아직 반영되지 않은 중간 이름이 아닌 처음 이름
+        if (next.type == Type.RENAMED) {
+            return renamed(userId, next.name, previousName);
+        }
+        return deleted(userId, previousName);
+    }
+
+}
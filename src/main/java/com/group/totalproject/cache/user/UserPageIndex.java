@@ -0,0 +1,167 @@
+package com.group.totalproject.cache.user;
+
+import com.group.totalproject.dto.user.response.UserResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 ID → 해당 회원이 포함된 페이지 캐시 키 역 인덱스
+ *  - Redis Set 구조: userPageIndex:{userId} = { getUsers::users:cursor:0:size:100, ... }
+ *  - 페이지 캐시를 채울 때 등록하고, 회원 수정/삭제 시 KEYS 스캔 없이 영향받는 페이지만 찾음
+ *  - 첫 페이지(cursor=null) 키 목록: userPageIndex:firstPages = { getUsers::users:cursor:0:size:10, ...:size:100, ... }
+ *    회원 등록 시 요청한 페이지 크기와 관계없이 캐시된 모든 첫 페이지에 새 회원을 추가하기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPageIndex {
+
+    public static final String CACHE_NAME = "getUsers";
+    public static final Duration PAGE_TTL = Duration.ofMinutes(3); // RedisConfig.userCacheManager의 entryTtl과 동일하게 유지
+
+    private static final String INDEX_KEY_PREFIX = "userPageIndex:";
+    private static final String FIRST_PAGES_KEY = INDEX_KEY_PREFIX + "firstPages";
+
+    private final StringRedisTemplate indexRedisTemplate; // 역 인덱스 저장용
+
+    // @Cacheable key와 동일한 형식의 캐시 키 (cacheName:: 접두어 제외)
+    public static String cacheKey(Long cursor, int size) {
+        return "users:cursor:" + (cursor != null ? cursor : "0") + ":size:" + size;
+    }
+
+    // Redis에 실제 저장되는 페이지 키 (RedisCacheManager가 "cacheName::" 접두어를 붙임)
+    public static String pageKey(Long cursor, int size) {
+        return CACHE_NAME + "::" + cacheKey(cursor, size);
+    }
+
+    // Redis 페이지 키 → @Cacheable key (L1 캐시 키)
+    public static String toCacheKey(String pageKey) {
+        return pageKey.substring((CACHE_NAME + "::").length());
+    }
+
+    private static String indexKey(long userId) {
+        return INDEX_KEY_PREFIX + userId;
+    }
+
+    // 페이지에 포함된 모든 회원에 대해 역 인덱스 등록 (파이프라인으로 한 번에 전송)
+    public void register(String pageKey, List<UserResponse> users) {
+        if (users == null || users.isEmpty()) {
+            return;
+        }
+
+        try {
+            indexRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (UserResponse user : users) {
+                        String indexKey = indexKey(user.getId());
+                        ops.opsForSet().add(indexKey, pageKey);
+                        ops.expire(indexKey, PAGE_TTL); // 페이지 캐시보다 오래 남지 않도록 페이지 TTL과 맞춤
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 인덱스 등록 실패는 조회 결과에 영향을 주지 않으므로 경고만 남김
+            log.warn("[역 인덱스 등록 실패] pageKey: {}, 이유: {}", pageKey, e.getMessage());
+        }
+    }
+
+    // 첫 페이지 캐시 키 등록 (SADD + EXPIRE, 파이프라인 1회)
+    public void registerFirstPage(String pageKey) {
+        try {
+            indexRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForSet().add(FIRST_PAGES_KEY, pageKey);
+                    ops.expire(FIRST_PAGES_KEY, PAGE_TTL); // 마지막으로 채운 첫 페이지보다 오래 남지 않도록 페이지 TTL과 맞춤
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[첫 페이지 키 등록 실패] pageKey: {}, 이유: {}", pageKey, e.getMessage());
+        }
+    }
+
+    // 캐시된 첫 페이지 키 목록 (만료된 페이지 키가 남아 있을 수 있음 → 수정 시 페이지 없음으로 확인 후 제거)
+    public Set<String> findFirstPageKeys() {
+        Set<String> pageKeys = indexRedisTemplate.opsForSet().members(FIRST_PAGES_KEY);
+        return pageKeys != null ? pageKeys : Collections.emptySet();
+    }
+
+    // 여러 회원의 페이지 키 목록을 파이프라인 1회로 조회 (결과 순서는 userIds 순서와 동일)
+    public List<Set<String>> findPageKeys(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = indexRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIds) {
+                    ops.opsForSet().members(indexKey(userId));
+                }
+                return null;
+            }
+        });
+
+        List<Set<String>> pageKeys = new ArrayList<>(results.size());
+        for (Object result : results) {
+            pageKeys.add(result != null ? castPageKeys(result) : Collections.emptySet());
+        }
+        return pageKeys;
+    }
+
+    // 역 인덱스 일괄 반영: 등록(회원 ID → 페이지 키), 해제(회원 ID → 페이지 키), 삭제(회원 ID), 만료된 첫 페이지 키 제거를 파이프라인 1회로 처리
+    public void applyAll(Map<Long, Set<String>> registrations, Map<Long, Set<String>> unregistrations, Collection<Long> removedUserIds,
+                         Collection<String> expiredFirstPageKeys) {
+        if (registrations.isEmpty() && unregistrations.isEmpty() && removedUserIds.isEmpty() && expiredFirstPageKeys.isEmpty()) {
+            return;
+        }
+
+        indexRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                registrations.forEach((userId, pageKeys) -> {
+                    ops.opsForSet().add(indexKey(userId), pageKeys.toArray(new String[0]));
+                    ops.expire(indexKey(userId), PAGE_TTL);
+                });
+                unregistrations.forEach((userId, pageKeys) -> ops.opsForSet().remove(indexKey(userId), pageKeys.toArray()));
+                for (Long userId : removedUserIds) {
+                    ops.delete(indexKey(userId));
+                }
+                if (!expiredFirstPageKeys.isEmpty()) {
+                    ops.opsForSet().remove(FIRST_PAGES_KEY, expiredFirstPageKeys.toArray());
+                }
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> castPageKeys(Object result) {
+        return (Set<String>) result;
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.group.totalproject.cache.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 회원 페이지 캐시를 Redis 안에서 직접 수정 (scripts/user-page-patch.lua)
+ *  - 페이지마다 EVALSHA 1회로 등록/이름 변경/삭제를 원자적으로 반영하고 남은 TTL 유지
+ *    (GET → 역직렬화 → 수정 → PTTL → SET 사이에 다른 노드의 변경이 끼어들어 유실되지 않음)
+ *  - 여러 페이지는 파이프라인 1회로 전송
+ *  - JSON 코덱 전용 (binary 코덱은 UserCacheMaintenanceWorker가 페이지를 읽어 수정 후 읽은 값과 같을 때만 저장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPagePatcher {
+
+    @SuppressWarnings("rawtypes") // 결과는 페이지별 반영 여부 목록(중첩 List) → 제네릭 클래스 리터럴이 없으므로 List로 선언 (EVALSHA 결과는 toApplied에서 변환)
+    private static final RedisScript<List> PATCH_SCRIPT = RedisScript.of(new ClassPathResource("scripts/user-page-patch.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 페이지별 변경 목록을 반영하고, 페이지마다 변경별 반영 여부를 반환 (결과 순서는 pageKeys 순서와 동일)
+     * 페이지가 없으면(만료) 해당 위치는 null
+     */
+    public List<boolean[]> patchAll(List<String> pageKeys, List<List<UserChangeEvent>> changesByPage) {
+        if (pageKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results;
+        try {
+            results = evalPipelined(pageKeys, changesByPage);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // Redis 재시작 등으로 스크립트 캐시가 비어 있으면 등록 후 한 번 더 실행 (변경은 중복 반영되어도 결과가 같음)
+            log.info("[페이지 수정 스크립트 등록] sha: {}", PATCH_SCRIPT.getSha1());
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(PATCH_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            results = evalPipelined(pageKeys, changesByPage);
+        }
+
+        List<boolean[]> applied = new ArrayList<>(results.size());
+        for (Object result : results) {
+            applied.add(toApplied((List<?>) result));
+        }
+        return applied;
+    }
+
+    private List<Object> evalPipelined(List<String> pageKeys, List<List<UserChangeEvent>> changesByPage) {
+        byte[] sha = PATCH_SCRIPT.getSha1().getBytes(StandardCharsets.UTF_8);
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < pageKeys.size(); i++) {
+                evalSha(connection, sha, pageKeys.get(i), changesByPage.get(i));
+            }
+            return null;
+        });
+    }
+
+    // KEYS[1] = 페이지 키, ARGV = (작업, 회원 ID, 이름, 나이) 반복
+    private static void evalSha(RedisConnection connection, byte[] sha, String pageKey, List<UserChangeEvent> changes) {
+        byte[][] keysAndArgs = new byte[1 + changes.size() * 4][];
+        keysAndArgs[0] = bytes(pageKey);
+        int i = 1;
+        for (UserChangeEvent change : changes) {
+            keysAndArgs[i++] = bytes(opCode(change.getType()));
+            keysAndArgs[i++] = bytes(String.valueOf(change.getUserId()));
+            keysAndArgs[i++] = bytes(change.getName() != null ? change.getName() : "");
+            keysAndArgs[i++] = bytes(change.getAge() != null ? String.valueOf(change.getAge()) : "");
+        }
+        connection.scriptingCommands().evalSha(sha, ReturnType.MULTI, 1, keysAndArgs);
+    }
+
+    private static String opCode(UserChangeEvent.Type type) {
+        switch (type) {
+            case CREATED:
+                return "C";
+            case RENAMED:
+                return "R";
+            case DELETED:
+                return "D";
+            default:
+                throw new IllegalArgumentException("지원하지 않는 변경 유형입니다. type: " + type);
+        }
+    }
+
+    // {0} → null(페이지 없음), {1, 반영 여부...} → 변경별 반영 여부
+    private static boolean[] toApplied(List<?> result) {
+        if (result == null || result.isEmpty() || ((Number) result.get(0)).longValue() == 0) {
+            return null;
+        }
+
+        boolean[] applied = new boolean[result.size() - 1];
+        for (int i = 1; i < result.size(); i++) {
+            applied[i - 1] = ((Number) result.get(i)).longValue() == 1;
+        }
+        return applied;
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.group.totalproject.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig { // Hibernate 설정 (application.yml에 같은 항목이 있으면 yml 값 우선)
+
+    private static final int JDBC_BATCH_SIZE = 50; // IdSequences.ALLOCATION_SIZE와 맞춤: ID 블록 1개 = INSERT 배치 1개
+
+    // INSERT/UPDATE JDBC 배치: 엔티티 ID를 id_sequences에서 미리 할당받으므로 saveAll 등 여러 건 저장을 배치로 묶을 수 있음
+    // order_inserts/order_updates: 엔티티 종류별로 문장을 정렬하여 배치가 끊기지 않도록 함 (예: 대출 기록 + 도서 상태 변경)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+}
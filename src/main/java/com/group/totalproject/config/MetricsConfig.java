@@ -0,0 +1,31 @@
+package com.group.totalproject.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig { // Micrometer 지표 설정 (조회: /actuator/metrics, /actuator/prometheus)
+
+    // DB 조회 시간: Spring Data 리포지토리 메서드 호출 Timer(spring.data.repository.invocations)에 p50/p95/p99 + 히스토그램 추가
+    // (Redis 명령 시간은 RedisConfig의 Lettuce 지표(lettuce.command.completion)로 기록)
+    @Bean
+    public MeterFilter repositoryLatencyHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("spring.data.repository.invocations")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+}
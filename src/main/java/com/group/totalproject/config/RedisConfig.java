@@ -1,9 +1,22 @@
 package com.group.totalproject.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group.totalproject.cache.CacheInvalidationListener;
+import com.group.totalproject.cache.CacheInvalidationPublisher;
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.loan.ActiveLoanIndex;
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.cache.codec.CacheCodec;
+import com.group.totalproject.cache.codec.CacheCodecMetrics;
+import com.group.totalproject.cache.codec.CompactBinaryRedisSerializer;
+import com.group.totalproject.cache.codec.MeasuredRedisSerializer;
 import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.prop.UserCacheProps;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,11 +24,15 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -31,19 +48,33 @@ public class RedisConfig { // Redis 서버 연결 설정하고 RedisTemplate을
     @Value("${spring.data.redis.port}")  // application.yml의 port 설정 값("6379")을 port 변수에 할당
     private int port;
 
+    // Lettuce 클라이언트 공용 자원: 명령별 응답 시간을 Micrometer에 기록 (lettuce.command.completion, 히스토그램 포함)
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        return ClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry,
+                        MicrometerOptions.builder().histogram(true).build()))
+                .build();
+    }
+
     // Redis 연결 설정
     @Bean
-    public LettuceConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
         // LettuceConnectionFactory(): Redis 연결을 관리하는 객체
         // RedisStandaloneConfiguration: 단일 Redis 서버에 연결하기 위해 정보(host, port)를 설정하는 객체
-        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port)); // Redis에 대한 정보를 설정하여 관리하는 객체 생성
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(lettuceClientResources)
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfig); // Redis에 대한 정보를 설정하여 관리하는 객체 생성
     }
 
     // RedisTemplate: Spring에서 Redis와 상호작용을 더 쉽게 만들어주는 템플릿 클래스
     // 역할: Redis에 데이터 저장 및 조회 / 다양한 데이터 타입 지원 / (역)직렬화 처리 / 트랜잭션 및 파이프라인 지원
     // RedisTemplate<String, List<UserResponse>>: Key는 String, Value는 List<UserResponse> 형식의 객체로 저장
     @Bean
-    public RedisTemplate<String, List<UserResponse>> redisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, List<UserResponse>> redisTemplate(LettuceConnectionFactory redisConnectionFactory,
+                                                                  UserCacheProps userCacheProps,
+                                                                  CacheCodecMetrics cacheCodecMetrics) {
         RedisTemplate<String, List<UserResponse>> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
 
@@ -60,7 +91,8 @@ public class RedisConfig { // Redis 서버 연결 설정하고 RedisTemplate을
         Jackson2JsonRedisSerializer<List<UserResponse>> serializer = new Jackson2JsonRedisSerializer<>(objectMapper.getTypeFactory().constructCollectionType(List.class, UserResponse.class));
 
         // Value 직렬화 방식 설정: Value를 JSON으로 변환하여 저장하고 가져올 때 다시 List<UserResponse> 객체로 변환함(serializer)
-        template.setValueSerializer(serializer);
+        // 회원 캐시(userCacheManager)와 같은 키를 읽고 쓰므로 같은 코덱(cache.user.codec)을 사용
+        template.setValueSerializer(cacheValueSerializer(serializer, userCacheProps, cacheCodecMetrics));
 
         // Redis Hash 자료구조를 사용할 때 Key의 직렬화 방식 설정: StringRedisSerializer를 사용하여 Key를 문자열(String)로 변환하여 저장
         template.setHashKeySerializer(new StringRedisSerializer());
@@ -78,9 +110,13 @@ public class RedisConfig { // Redis 서버 연결 설정하고 RedisTemplate을
         return new StringRedisTemplate(connectionFactory);
     }
 
-    // RedisCacheManager 설정 (캐시 사용)
+    // 2단계 캐시 설정: JVM 내부 L1 캐시(Caffeine) + RedisCacheManager(L2)
     @Bean
-    public CacheManager userCacheManager(RedisConnectionFactory redisConnectionFactory) { // Redis 연결을 위해 RedisConnectionFactory 주입 받음
+    public TwoLevelCacheManager userCacheManager(RedisConnectionFactory redisConnectionFactory, // Redis 연결을 위해 RedisConnectionFactory 주입 받음
+                                                 StringRedisTemplate stringRedisTemplate,
+                                                 CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                 UserCacheProps userCacheProps,
+                                                 CacheCodecMetrics cacheCodecMetrics) {
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration // RedisCacheConfiguration: Redis에 데이터를 저장하는 방식을 정의하는 객체
                 .defaultCacheConfig() // 기본 설정
                 .serializeKeysWith( // Redis의 Key 직렬화 설정
@@ -91,12 +127,45 @@ public class RedisConfig { // Redis 서버 연결 설정하고 RedisTemplate을
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         // Jackson2JsonRedisSerializer: Java 객체를 JSON 문자열 형태로 직렬화해서 저장
                         // Object.class: 다양한 데이터 타입을 저장할 수 있도록 설정
-                        new Jackson2JsonRedisSerializer<>(Object.class)))
+                        cacheValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class), userCacheProps, cacheCodecMetrics)))
                 .entryTtl(Duration.ofMinutes(3));
 
-        return RedisCacheManager.builder(redisConnectionFactory) // 주입받은 redisConnectionFactory를 사용하여 Redis 캐시 매니저를 생성
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory) // 주입받은 redisConnectionFactory를 사용하여 Redis 캐시 매니저를 생성
                 .cacheDefaults(cacheConfig) // 앞서 정의한 캐시 설정(cacheConfig) 적용
-                .build(); // 최종적으로 RedisCacheManager 객체를 생성하여 반환
+                .build(); // 최종적으로 RedisCacheManager 객체를 생성
+        redisCacheManager.afterPropertiesSet(); // Bean으로 등록하지 않으므로 초기화를 직접 호출
+
+        // RedisCacheManager를 L2로 감싼 캐시 매니저 반환 (L2 직접 조회/락에 사용할 설정과 StringRedisTemplate 함께 전달)
+        return new TwoLevelCacheManager(redisCacheManager, cacheConfig, stringRedisTemplate, cacheInvalidationPublisher, userCacheProps);
+    }
+
+    // L1 캐시 무효화 메시지 구독: 다른 노드에서 회원 캐시가 변경되면 이 노드의 L1 항목도 제거
+    // 대출/반납 메시지 구독: 다른 노드의 대출/반납을 이 노드의 대출 중 인덱스에 반영
+    // 이름 캐시 제거 메시지 구독: 회원 이름 변경/삭제, 도서 등록 시 이 노드의 이름 → ID 항목 제거
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager userCacheManager,
+                                                                            ActiveLoanIndex activeLoanIndex,
+                                                                            NameIdCache nameIdCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(new CacheInvalidationListener(userCacheManager), new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(activeLoanIndex, new ChannelTopic(ActiveLoanIndex.CHANNEL));
+        container.addMessageListener(nameIdCache, new ChannelTopic(NameIdCache.CHANNEL));
+        return container;
+    }
+
+    // 캐시 값 직렬화 방식 선택 (json: 기존 JSON 그대로 / binary: 이진 포맷, JSON은 읽기 호환과 미지원 타입 저장에 사용)
+    // 항목당 크기와 인코딩/디코딩 시간은 MeasuredRedisSerializer가 기록 (GET /cache/codec)
+    private static RedisSerializer<?> cacheValueSerializer(RedisSerializer<?> jsonSerializer,
+                                                           UserCacheProps userCacheProps,
+                                                           CacheCodecMetrics cacheCodecMetrics) {
+        if (userCacheProps.getCodec() == CacheCodec.BINARY) {
+            return new MeasuredRedisSerializer<>(
+                    new CompactBinaryRedisSerializer(jsonSerializer, userCacheProps.getCompressionThreshold(), cacheCodecMetrics),
+                    cacheCodecMetrics);
+        }
+        return new MeasuredRedisSerializer<>(jsonSerializer, cacheCodecMetrics);
     }
 
 }
@@ -78,6 +78,8 @@ public class SecurityConfig {
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                 .requestMatchers(PUBLIC_URLS).permitAll()
                 .requestMatchers(HttpMethod.POST, "/token/refresh-token").permitAll()
+                .requestMatchers("/actuator/health").permitAll() // 헬스 체크(로드밸런서/배포 스크립트)
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // 운영 지표는 관리자만 조회
                 .requestMatchers("/user/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/book/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers(HttpMethod.POST, "/admin").hasRole("ADMIN") // 관리자 등록은 관리자로 제한
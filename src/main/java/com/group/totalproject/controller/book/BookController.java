@@ -1,29 +1,118 @@
 package com.group.totalproject.controller.book;
 
+import com.group.totalproject.counter.CollectionVersion;
+import com.group.totalproject.counter.CollectionVersionService;
 import com.group.totalproject.dto.book.request.BookCreateRequest;
+import com.group.totalproject.dto.book.request.BookLoanBatchRequest;
 import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.dto.book.request.BookReturnBatchRequest;
 import com.group.totalproject.dto.book.request.BookReturnRequest;
+import com.group.totalproject.dto.book.response.BookCatalogResponse;
 import com.group.totalproject.dto.book.response.LoanResponse;
 import com.group.totalproject.service.book.BookService;
+import com.group.totalproject.service.book.LoanArchiveService;
+import com.group.totalproject.service.book.LoanEngine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
 @RestController
 public class BookController {
 
+    private static final int MAX_LOAN_PAGE_SIZE = 1_000; // 대출 목록 1회 최대 건수
+    private static final int MAX_CATALOG_PAGE_SIZE = 1_000; // 도서 목록 1회 최대 건수
+
     private final BookService bookService;
+    private final LoanEngine loanEngine;
+    private final LoanArchiveService loanArchiveService;
+    private final CollectionVersionService collectionVersionService;
 
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, LoanEngine loanEngine, LoanArchiveService loanArchiveService,
+                          CollectionVersionService collectionVersionService) {
         this.bookService = bookService;
+        this.loanEngine = loanEngine;
+        this.loanArchiveService = loanArchiveService;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @GetMapping("/book") // 목록보기: 대출 기록 최신순 커서 페이징, 다음 페이지는 X-Next-Cursor 값을 cursor로 전달
+    public ResponseEntity<?> getLoans(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "100") int size,
+            @RequestParam(name = "isReturn", required = false) Boolean isReturn,
+            @RequestParam(name = "userName", required = false) String userName,
+            @RequestParam(name = "bookName", required = false) String bookName,
+            @RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        if (size < 1 || size > MAX_LOAN_PAGE_SIZE) {
+            log.warn("[대출 목록 조회 실패] 잘못된 size: {}", size);
+            return ResponseEntity.badRequest().body("size는 1부터 " + MAX_LOAN_PAGE_SIZE + "까지 입력할 수 있습니다.");
+        }
+
+        // 대출 목록 버전 + 요청 조건이 같으면 DB 조회 없이 304 응답 (이름은 ETag에 쓸 수 있도록 URL 인코딩)
+        String etag = collectionVersionService.etag(CollectionVersion.LOANS,
+                cursor != null ? cursor : 0, size, isReturn, encode(userName), encode(bookName));
+        if (CollectionVersionService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        List<LoanResponse> loans = bookService.getLoans(cursor, size, isReturn, userName, bookName);
+
+        // no-cache: 브라우저가 응답을 저장하되 매번 If-None-Match로 재검증 (Spring Security 기본값 no-store 대신 사용)
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (loans.size() == size) { // 꽉 찬 페이지일 때만 다음 페이지가 있을 수 있음
+            response.header("X-Next-Cursor", String.valueOf(loans.get(loans.size() - 1).getId()));
+        }
+        return response.body(loans);
+    }
+
+    // 보관된(오래된 반납 완료) 대출 기록: GET /book에는 포함되지 않으므로 필요할 때 명시적으로 조회
+    @GetMapping("/book/archive")
+    public ResponseEntity<?> getArchivedLoans(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "100") int size,
+            @RequestParam(name = "userName", required = false) String userName,
+            @RequestParam(name = "bookName", required = false) String bookName
+    ) {
+        if (size < 1 || size > MAX_LOAN_PAGE_SIZE) {
+            log.warn("[보관 대출 기록 조회 실패] 잘못된 size: {}", size);
+            return ResponseEntity.badRequest().body("size는 1부터 " + MAX_LOAN_PAGE_SIZE + "까지 입력할 수 있습니다.");
+        }
+
+        List<LoanResponse> loans = loanArchiveService.getArchivedLoans(cursor, size, userName, bookName);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (loans.size() == size) {
+            response.header("X-Next-Cursor", String.valueOf(loans.get(loans.size() - 1).getId()));
+        }
+        return response.body(loans);
     }
 
-    @GetMapping("/book") // 목록보기
-    public List<LoanResponse> getLoans() {
-        return bookService.getLoans();
+    @GetMapping("/book/catalog") // 도서 목록: 이름순 + 대출 가능 여부, 다음 페이지는 X-Next-Cursor 값(마지막 도서 ID)을 cursor로 전달
+    public ResponseEntity<?> getCatalog(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        if (size < 1 || size > MAX_CATALOG_PAGE_SIZE) {
+            log.warn("[도서 목록 조회 실패] 잘못된 size: {}", size);
+            return ResponseEntity.badRequest().body("size는 1부터 " + MAX_CATALOG_PAGE_SIZE + "까지 입력할 수 있습니다.");
+        }
+
+        List<BookCatalogResponse> books = bookService.getCatalog(cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (books.size() == size) { // 꽉 찬 페이지일 때만 다음 페이지가 있을 수 있음
+            response.header("X-Next-Cursor", String.valueOf(books.get(books.size() - 1).getId()));
+        }
+        return response.body(books);
     }
 
     @PostMapping("/book")
@@ -41,7 +130,7 @@ public class BookController {
     public ResponseEntity<?> loanBook(@RequestBody BookLoanRequest request) {
         log.info("[도서 대출 요청] 책 제목: {}, 회원: {}", request.getBookName(), request.getUserName());
         try {
-            bookService.loanBook(request);
+            loanEngine.loanBook(request); // 도서별 락 + 도서당 대출 중 기록 1건(DB 유니크 제약)
             log.info("[도서 대출 성공] 책 제목: {}", request.getBookName());
             return ResponseEntity.ok("책 대출이 완료되었습니다.");
         } catch (IllegalArgumentException e) {
@@ -54,7 +143,7 @@ public class BookController {
     public ResponseEntity<?> returnBook(@RequestBody BookReturnRequest request) {
         log.info("[도서 반납 요청] 책 제목: {}, 회원: {}", request.getBookName(), request.getUserName());
         try {
-            bookService.returnBook(request);
+            loanEngine.returnBook(request);
             log.info("[도서 반납 성공] 책 ID: {}", request.getBookName());
             return ResponseEntity.ok("책 반납이 완료되었습니다.");
         } catch (IllegalArgumentException e) {
@@ -63,4 +152,28 @@ public class BookController {
         }
     }
 
+    @PostMapping("/book/loan/batch") // 회원 1명의 여러 권 대출: 대출할 수 없는 책은 건너뛰고 책별 결과로 알려줌
+    public ResponseEntity<?> loanBooks(@RequestBody BookLoanBatchRequest request) {
+        try {
+            return ResponseEntity.ok(loanEngine.loanBooks(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("[도서 일괄 대출 실패] 이유: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/book/return/batch") // 회원 1명의 여러 권 반납
+    public ResponseEntity<?> returnBooks(@RequestBody BookReturnBatchRequest request) {
+        try {
+            return ResponseEntity.ok(loanEngine.returnBooks(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("[도서 일괄 반납 실패] 이유: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
 }
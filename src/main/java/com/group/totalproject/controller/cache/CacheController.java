@@ -0,0 +1,63 @@
+package com.group.totalproject.controller.cache;
+
+import com.group.totalproject.cache.CacheTierStats;
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.codec.CacheCodecMetrics;
+import com.group.totalproject.cache.codec.CacheCodecStats;
+import com.group.totalproject.cache.loan.ActiveLoanIndex;
+import com.group.totalproject.cache.loan.ActiveLoanIndexStats;
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.cache.name.NameIdCacheStats;
+import com.group.totalproject.cache.user.CacheMaintenanceStats;
+import com.group.totalproject.cache.user.CacheWarmupProgress;
+import com.group.totalproject.cache.user.UserCacheMaintenanceWorker;
+import com.group.totalproject.cache.user.UserCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheController { // 캐시 상태 조회 API
+
+    private final TwoLevelCacheManager userCacheManager;
+    private final CacheCodecMetrics cacheCodecMetrics;
+    private final UserCacheWarmer userCacheWarmer;
+    private final UserCacheMaintenanceWorker userCacheMaintenanceWorker;
+    private final ActiveLoanIndex activeLoanIndex;
+    private final NameIdCache nameIdCache;
+
+    @GetMapping("/cache/stats") // 캐시 이름별 L1/L2 적중률 조회
+    public ResponseEntity<List<CacheTierStats>> getCacheStats() {
+        return ResponseEntity.ok(userCacheManager.getStats());
+    }
+
+    @GetMapping("/cache/codec") // 캐시 값 직렬화 통계 (항목당 평균 바이트, 인코딩/디코딩 평균 시간)
+    public ResponseEntity<CacheCodecStats> getCodecStats() {
+        return ResponseEntity.ok(cacheCodecMetrics.getStats());
+    }
+
+    @GetMapping("/cache/warmup") // 기동 시 캐시 워밍업 진행 상황
+    public ResponseEntity<CacheWarmupProgress> getWarmupProgress() {
+        return ResponseEntity.ok(userCacheWarmer.getProgress());
+    }
+
+    @GetMapping("/cache/maintenance") // 커밋 후 캐시 반영 작업 통계 (대기 건수, 반영 지연, 병합 건수)
+    public ResponseEntity<CacheMaintenanceStats> getMaintenanceStats() {
+        return ResponseEntity.ok(userCacheMaintenanceWorker.getStats());
+    }
+
+    @GetMapping("/cache/active-loans") // 대출 중 인덱스 상태 (구성 여부, 대출 중 건수, DB 조회 생략 횟수)
+    public ResponseEntity<ActiveLoanIndexStats> getActiveLoanIndexStats() {
+        return ResponseEntity.ok(activeLoanIndex.getStats());
+    }
+
+    @GetMapping("/cache/name-ids") // 회원/도서 이름 → ID 캐시 적중률 (최대 항목 수 조정용)
+    public ResponseEntity<List<NameIdCacheStats>> getNameIdCacheStats() {
+        return ResponseEntity.ok(nameIdCache.getStats());
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.group.totalproject.controller.counter;
+
+import com.group.totalproject.counter.EntityCounter;
+import com.group.totalproject.counter.EntityCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class CounterController { // 대시보드용 엔티티 카운터 조회 API
+
+    private final EntityCounterService entityCounterService;
+
+    @GetMapping("/counters") // 회원 수, 도서 수, 대출 중 건수 (Redis 조회, DB COUNT 없음)
+    public ResponseEntity<Map<EntityCounter, Long>> getCounters() {
+        return ResponseEntity.ok(entityCounterService.getAll());
+    }
+
+}
@@ -1,42 +1,69 @@
 package com.group.totalproject.controller.user;
 
+import com.group.totalproject.cache.CacheLookup;
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.user.UserPageIndex;
+import com.group.totalproject.counter.CollectionVersion;
+import com.group.totalproject.counter.CollectionVersionService;
+import com.group.totalproject.dto.user.request.UserBatchCreateRequest;
 import com.group.totalproject.dto.user.request.UserCreateRequest;
 import com.group.totalproject.dto.user.request.UserDeleteRequest;
 import com.group.totalproject.dto.user.request.UserUpdateRequest;
 import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.metrics.UserPagingMetrics;
+import com.group.totalproject.service.user.UserExportService;
+import com.group.totalproject.service.user.UserImportService;
 import com.group.totalproject.service.user.UserServiceV2;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController // @RestController: 1.API 진입지점 만들어 줌 / 2.UserController 클래스를 스프링 빈으로 등록시켜 줌 / 3.@Controller + @ResponseBody(json 형태로 데이터를 반환해 줌)
 public class UserController { // Controller: API와 HTTP 담당
 
-    private final UserServiceV2 userService;
-    private final CacheManager cacheManager;
-    private final StringRedisTemplate redisTemplate;
+    private static final int MAX_SEARCH_SIZE = 100; // 검색/자동완성 1회 최대 건수
 
-    public UserController(UserServiceV2 userService, CacheManager cacheManager, StringRedisTemplate redisTemplate) {  // UserController가 JdbcTemplate에 의존
+    private final UserServiceV2 userService;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final TwoLevelCacheManager userCacheManager;
+    private final CollectionVersionService collectionVersionService;
+    private final UserPagingMetrics userPagingMetrics;
+
+    public UserController(UserServiceV2 userService, UserExportService userExportService, UserImportService userImportService,
+                          TwoLevelCacheManager userCacheManager, CollectionVersionService collectionVersionService,
+                          UserPagingMetrics userPagingMetrics) {  // UserController가 JdbcTemplate에 의존
         this.userService = userService;
-        this.cacheManager = cacheManager;
-        this.redisTemplate = redisTemplate;
+        this.userExportService = userExportService;
+        this.userImportService = userImportService;
+        this.userCacheManager = userCacheManager;
+        this.collectionVersionService = collectionVersionService;
+        this.userPagingMetrics = userPagingMetrics;
     }
 
     @PostMapping("/user") // 등록
     public ResponseEntity<?> saveUser(@RequestBody UserCreateRequest request) { // @RequestBody: HTTP 요청의 바디에 담긴 값들을 자바객체로 변환시켜 객체에 저장
         try {
-            userService.saveUser(request, request.getPageSize());
+            userService.saveUser(request);
             return ResponseEntity.ok("회원 등록이 완료되었습니다.");
         } catch (IllegalArgumentException e) {
             log.warn("회원 등록 실패: {}", e.getMessage());
@@ -44,36 +71,74 @@ public class UserController { // Controller: API와 HTTP 담당
         }
     }
 
+    @PostMapping("/user/batch") // 일괄 등록 (JSON): 형식 오류/중복 행은 건너뛰고 결과로 알려줌
+    public ResponseEntity<?> saveUsers(@RequestBody UserBatchCreateRequest request) {
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(request.getUsers()));
+        } catch (IllegalArgumentException e) {
+            log.warn("회원 일괄 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/user/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE) // 일괄 등록 (CSV 파일: name,age)
+    public ResponseEntity<?> importUsers(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importCsv(csv));
+        } catch (IllegalArgumentException e) {
+            log.warn("회원 CSV 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/user") // 목록보기
     public ResponseEntity<?> getUsers(
             @RequestParam(name = "cursor", required = false) Long cursor,
             @RequestParam(name = "page", required = false, defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "100") int size,
-            @RequestParam(name = "type", defaultValue = "cache-cursor")String type
+            @RequestParam(name = "type", defaultValue = "cache-cursor")String type,
+            @RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch
     ) {
         // log.info("[회원 목록 조회 요청] type: {}, cursor: {}, page: {}, size: {}", type, cursor, page, size);
 
+        // 회원 목록 버전 + 요청 조건이 같으면 DB/페이지 캐시 조회 없이 304 응답
+        String etag = collectionVersionService.etag(CollectionVersion.USERS, type, cursor != null ? cursor : 0, page, size);
+        if (CollectionVersionService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         List<UserResponse> users;
         HttpHeaders headers = new HttpHeaders();
         String key = "";
         boolean isHit = false;
+        long ttlSeconds = -1; // 캐시 HIT 시 남은 TTL (TTL 없으면 -1)
 
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
         try {
             switch (type) {
                 case "cache-cursor":
-                    key = "users:cursor:" + (cursor != null ? cursor : "0") + ":size:" + size;
-                    Cache cache = cacheManager.getCache("getUsers");
-
-                    if (cache != null && cache.get(key) != null) {
-                        isHit = true;
-                        log.info("[캐시 HIT] key: {}", key);
+                    key = UserPageIndex.cacheKey(cursor, size);
+                    // 값, HIT 여부, TTL을 한 번에 조회 (HIT이면 @Cacheable 프록시와 TTL 조회를 거치지 않음)
+                    CacheLookup lookup = userCacheManager.getCache(UserPageIndex.CACHE_NAME).lookup(key);
+                    isHit = lookup.isHit();
+
+                    if (isHit) {
+                        log.info("[캐시 HIT] key: {}, tier: {}", key, lookup.getTier());
+                        users = castUsers(lookup.getValue());
+                        ttlSeconds = lookup.getTtlSeconds();
                     } else {
                         log.info("[캐시 MISS] key: {}", key);
+                        users = userService.getUsersWithCache(cursor, size);
                     }
+                    break;
 
-                    users = userService.getUsersWithCache(cursor, size);
+                case "cache-zset":
+                    // 정규화 캐시(Sorted Set + Hash) 조회, 적재 전이면 DB 커서 조회로 대체
+                    Optional<List<UserResponse>> cachedUsers = userService.getUsersFromNormalizedCache(cursor, size);
+                    isHit = cachedUsers.isPresent();
+                    log.info("[정규화 캐시 {}] cursor: {}, size: {}", isHit ? "HIT" : "MISS", cursor, size);
+                    users = cachedUsers.isPresent() ? cachedUsers.get() : userService.getUsersWithCursor(cursor, size);
                     break;
 
                 case "cursor":
@@ -91,14 +156,21 @@ public class UserController { // Controller: API와 HTTP 담당
                     throw new IllegalArgumentException("Invalid type: " + type);
             }
 
-            long duration = System.currentTimeMillis() - start;
+            long elapsedNanos = System.nanoTime() - start;
+            long duration = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            userPagingMetrics.record(type, isHit, elapsedNanos, users.size()); // 페이징 방식별 응답 시간 히스토그램 (/actuator/prometheus)
 
             headers.add("X-Cache", isHit ? "HIT" : "MISS");
             headers.add("X-Response-Time", duration + "ms");
+            if (etag != null) {
+                headers.setETag(etag);
+                headers.setCacheControl(CacheControl.noCache().cachePrivate()); // 브라우저가 저장 후 If-None-Match로 재검증
+            }
 
-            if (isHit) {
-                Long ttl = redisTemplate.getExpire("getUsers::" + key, TimeUnit.SECONDS);
-                headers.add("X-TTL", ttl != null && ttl > 0 ? ttl.toString() : "No TTL");
+            if (isHit && type.equals("cache-cursor")) {
+                headers.add("X-TTL", ttlSeconds > 0 ? String.valueOf(ttlSeconds) : "No TTL");
+            } else if (isHit) {
+                headers.add("X-TTL", "No TTL"); // 정규화 캐시는 TTL 없이 유지됨
             }
 
             log.info("[회원 목록 조회 완료] 응답 시간: {}ms, 조회 회원수: {}명", duration, users.size());
@@ -212,7 +284,7 @@ public class UserController { // Controller: API와 HTTP 담당
     @DeleteMapping("/user") // 삭제
     public ResponseEntity<?> deleteUser(@RequestBody UserDeleteRequest request) {
         try {
-            userService.deleteUser(request.getName(), request.getPageSize());
+            userService.deleteUser(request.getName());
             return ResponseEntity.ok("회원이 삭제되었습니다.");
         } catch (IllegalArgumentException e) {
             log.warn("회원 삭제 실패: {}", e.getMessage());
@@ -220,9 +292,77 @@ public class UserController { // Controller: API와 HTTP 담당
         }
     }
 
+    // 회원 전체 내보내기: 조회 결과를 모으지 않고 응답 스트림에 바로 기록 (format: ndjson | csv, fromId: 이어받기 시작 id)
+    @GetMapping("/user/export")
+    public void exportUsers(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "fromId", defaultValue = "0") long fromId,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!UserExportService.isSupportedFormat(format)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format); // GlobalExceptionHandler에서 400 응답
+        }
+
+        log.info("[회원 내보내기 요청] 형식: {}, fromId: {}", format, fromId);
+        boolean csv = "csv".equals(format);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + (csv ? "csv" : "ndjson") + "\"");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        userExportService.export(format, fromId, writer);
+    }
+
+    // 이름 접두어 검색 (대출/반납 화면의 회원 선택): 이름 사전순, 다음 페이지는 X-Next-Cursor 값을 after로 전달
+    @GetMapping("/user/search")
+    public ResponseEntity<?> searchUsers(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        try {
+            if (size < 1 || size > MAX_SEARCH_SIZE) {
+                throw new IllegalArgumentException("size는 1부터 " + MAX_SEARCH_SIZE + "까지 입력할 수 있습니다.");
+            }
+            List<UserResponse> users = userService.searchUsers(prefix, after, size);
+            HttpHeaders headers = new HttpHeaders();
+            if (users.size() == size) { // 꽉 찬 페이지일 때만 다음 페이지가 있을 수 있음
+                headers.add("X-Next-Cursor", users.get(users.size() - 1).getName());
+            }
+            return new ResponseEntity<>(users, headers, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.warn("회원 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 이름 자동완성: Redis 이름 인덱스(ZRANGEBYLEX)에서 이름만 조회
+    @GetMapping("/user/autocomplete")
+    public ResponseEntity<?> autocompleteNames(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        try {
+            if (limit < 1 || limit > MAX_SEARCH_SIZE) {
+                throw new IllegalArgumentException("limit는 1부터 " + MAX_SEARCH_SIZE + "까지 입력할 수 있습니다.");
+            }
+            return ResponseEntity.ok(userService.autocompleteNames(prefix, after, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("회원 이름 자동완성 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/user/count")
     public ResponseEntity<Long> getUserCount() {
         return ResponseEntity.ok(userService.getUserCount());
     }
 
+    // 캐시 값은 직렬화 방식(json | binary)에 따라 UserResponse 또는 Map 목록으로 복원되며, 어느 쪽이든 같은 JSON으로 응답됨
+    @SuppressWarnings("unchecked")
+    private static List<UserResponse> castUsers(Object value) {
+        return (List<UserResponse>) value;
+    }
+
 }
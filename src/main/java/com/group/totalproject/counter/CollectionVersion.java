@@ -0,0 +1,18 @@
+package com.group.totalproject.counter;
+
+public enum CollectionVersion { // 목록 응답의 ETag 생성에 사용하는 컬렉션 버전 종류
+
+    USERS("version:users"), // 회원 목록 (등록/수정/삭제 시 증가)
+    LOANS("version:loans"); // 대출 목록 (대출/반납, 회원 이름 변경/삭제 시 증가)
+
+    private final String key;
+
+    CollectionVersion(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.group.totalproject.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 컬렉션 버전 (조건부 GET의 ETag 기준)
+ *  - 조회: Redis GET 1회 → 클라이언트의 If-None-Match와 같으면 DB/캐시 조회 없이 304 응답
+ *  - 변경: 트랜잭션 커밋 후 INCR (롤백된 변경은 버전을 올리지 않음)
+ *  - 키가 없으면(최초 또는 Redis 초기화) 현재 시각(ms)으로 시작 → 초기화 이전에 발급된 ETag와 겹치지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CollectionVersionService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 현재 버전, Redis 장애 시 null (조건부 응답 없이 항상 전체 응답)
+    public Long get(CollectionVersion version) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(version.getKey());
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+
+            stringRedisTemplate.opsForValue().setIfAbsent(version.getKey(), String.valueOf(System.currentTimeMillis()));
+            value = stringRedisTemplate.opsForValue().get(version.getKey());
+            return value != null ? Long.parseLong(value) : null;
+        } catch (DataAccessException e) {
+            log.warn("[컬렉션 버전 조회 실패] {}: {}", version, e.getMessage());
+            return null;
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영, 트랜잭션 밖이면 즉시 반영
+    public void bump(CollectionVersion version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(version);
+                }
+            });
+        } else {
+            apply(version);
+        }
+    }
+
+    // 버전과 요청 조건(커서, 크기 등)을 조합한 ETag, 버전을 알 수 없으면 null
+    public String etag(CollectionVersion version, Object... params) {
+        Long current = get(version);
+        if (current == null) {
+            return null;
+        }
+
+        StringBuilder etag = new StringBuilder("\"").append(current);
+        for (Object param : params) {
+            etag.append('-').append(param);
+        }
+        return etag.append('"').toString();
+    }
+
+    // If-None-Match 헤더 비교 (여러 값, 약한 비교(W/), * 지원)
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void apply(CollectionVersion version) {
+        try {
+            // 키가 없으면 1부터 시작하지 않도록 현재 시각으로 생성, 있으면 INCR
+            Boolean created = stringRedisTemplate.opsForValue().setIfAbsent(version.getKey(), String.valueOf(System.currentTimeMillis()));
+            if (!Boolean.TRUE.equals(created)) {
+                stringRedisTemplate.opsForValue().increment(version.getKey());
+            }
+        } catch (DataAccessException e) {
+            log.warn("[컬렉션 버전 반영 실패] {}: {}", version, e.getMessage());
+        }
+    }
+
+}
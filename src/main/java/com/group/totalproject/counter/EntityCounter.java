@@ -0,0 +1,19 @@
+package com.group.totalproject.counter;
+
+public enum EntityCounter { // Redis에 유지하는 엔티티 카운터 종류
+
+    USER("counter:user"),               // 전체 회원 수
+    BOOK("counter:book"),               // 전체 도서 수
+    ACTIVE_LOAN("counter:loan:active"); // 대출 중(미반납)인 기록 수
+
+    private final String key;
+
+    EntityCounter(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.group.totalproject.counter;
+
+import com.group.totalproject.domain.book.BookRepository;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔티티 카운터 (회원 수, 도서 수, 대출 중 건수)
+ *  - 조회: Redis GET 1회 (COUNT(*) 쿼리 없음)
+ *  - 변경: 트랜잭션 커밋 후 카운터가 있을 때만 INCRBY (Lua 1회, 롤백된 변경은 반영하지 않음)
+ *  - 보정: 주기적으로 DB COUNT 결과로 덮어써서 누락/중복 반영을 바로잡음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityCounterService {
+
+    private static final String RECONCILE_LOCK_KEY = "counter:reconcile-lock";
+
+    // 카운터가 있을 때만 INCRBY (확인과 증가 사이에 만료/삭제되어 0부터 다시 시작하지 않도록 Lua 1회로 처리), 없으면 nil
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) else return nil end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final UserLoanHistoryRepository userLoanHistoryRepository;
+
+    public long get(EntityCounter counter) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(counter.getKey());
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+
+            // 카운터가 아직 없으면 DB에서 계산 후 저장 (다른 노드가 먼저 저장했다면 덮어쓰지 않음)
+            long count = countFromDb(counter);
+            stringRedisTemplate.opsForValue().setIfAbsent(counter.getKey(), String.valueOf(count));
+            return count;
+        } catch (DataAccessException e) {
+            log.warn("[카운터 조회 실패] {}: {}, DB 조회로 대체", counter, e.getMessage());
+            return countFromDb(counter);
+        }
+    }
+
+    public Map<EntityCounter, Long> getAll() {
+        Map<EntityCounter, Long> counts = new EnumMap<>(EntityCounter.class);
+        for (EntityCounter counter : EntityCounter.values()) {
+            counts.put(counter, get(counter));
+        }
+        return counts;
+    }
+
+    public void increment(EntityCounter counter) {
+        add(counter, 1);
+    }
+
+    public void decrement(EntityCounter counter) {
+        add(counter, -1);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영, 트랜잭션 밖이면 즉시 반영 (일괄 등록 시 건수만큼 한 번에 반영)
+    public void add(EntityCounter counter, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(counter, delta);
+                }
+            });
+        } else {
+            apply(counter, delta);
+        }
+    }
+
+    private void apply(EntityCounter counter, long delta) {
+        try {
+            // 카운터가 없을 때 INCR하면 0부터 시작하여 잘못된 값이 되므로, 있는 경우에만 반영 (없으면 다음 조회 시 DB에서 계산)
+            stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, Collections.singletonList(counter.getKey()), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            log.warn("[카운터 반영 실패] {}: {}, 다음 보정 때 복구됨", counter, e.getMessage());
+        }
+    }
+
+    // 주기적 보정: 여러 노드 중 한 곳에서만 실행 (기본 5분)
+    @Scheduled(fixedDelayString = "${counter.reconcile-interval-ms:300000}", initialDelayString = "${counter.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1", Duration.ofMinutes(1));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            for (EntityCounter counter : EntityCounter.values()) {
+                long count = countFromDb(counter);
+                String previous = stringRedisTemplate.opsForValue().getAndSet(counter.getKey(), String.valueOf(count));
+                if (previous != null && Long.parseLong(previous) != count) {
+                    log.info("[카운터 보정] {}: {} → {}", counter, previous, count);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("[카운터 보정 실패] 이유: {}", e.getMessage());
+        }
+    }
+
+    private long countFromDb(EntityCounter counter) {
+        return switch (counter) {
+            case USER -> userRepository.count();
+            case BOOK -> bookRepository.count();
+            case ACTIVE_LOAN -> userLoanHistoryRepository.countByIsReturnFalse();
+        };
+    }
+
+}
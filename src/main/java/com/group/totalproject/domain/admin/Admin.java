@@ -1,7 +1,10 @@
 package com.group.totalproject.domain.admin;
 
+import com.group.totalproject.domain.sequence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,7 +17,16 @@ import java.util.List;
 public class Admin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // pk 자동 생성 전략
+    // pk 자동 생성 전략: id_sequences 테이블 기반 pooled-lo 채번
+    @GeneratedValue(generator = "admin_id")
+    @GenericGenerator(name = "admin_id", strategy = IdSequences.GENERATOR, parameters = {
+            @Parameter(name = "table_name", value = IdSequences.TABLE),
+            @Parameter(name = "segment_column_name", value = IdSequences.SEGMENT_COLUMN),
+            @Parameter(name = "value_column_name", value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = "segment_value", value = IdSequences.ADMIN),
+            @Parameter(name = "increment_size", value = IdSequences.ALLOCATION_SIZE),
+            @Parameter(name = "optimizer", value = IdSequences.OPTIMIZER)
+    })
     private Long id = null;
 
     @Column(nullable = false, unique = true)
@@ -1,12 +1,26 @@
 package com.group.totalproject.domain.book;
 
+import com.group.totalproject.domain.sequence.IdSequences;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
+// 도서 이름은 유일: findByName/findIdByName/existsByName 조회와 도서 목록(이름순 키셋 페이징)에 사용
+@Table(uniqueConstraints = { @UniqueConstraint(name = "uk_book_name", columnNames = "name") })
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // id 자동 생성
+    // id 자동 생성 (id_sequences 테이블 기반 pooled-lo 채번)
+    @GeneratedValue(generator = "book_id")
+    @GenericGenerator(name = "book_id", strategy = IdSequences.GENERATOR, parameters = {
+            @Parameter(name = "table_name", value = IdSequences.TABLE),
+            @Parameter(name = "segment_column_name", value = IdSequences.SEGMENT_COLUMN),
+            @Parameter(name = "value_column_name", value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = "segment_value", value = IdSequences.BOOK),
+            @Parameter(name = "increment_size", value = IdSequences.ALLOCATION_SIZE),
+            @Parameter(name = "optimizer", value = IdSequences.OPTIMIZER)
+    })
     private Long id = null; // 명시적으로 보여주기 위해서 null을 넣어줌
 
     @Column(nullable = false) // 기본값 생략: length = 255, name = "name"
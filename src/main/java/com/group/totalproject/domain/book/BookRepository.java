@@ -1,9 +1,15 @@
 package com.group.totalproject.domain.book;
 
+import com.group.totalproject.dto.book.response.BookCatalogResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
@@ -18,5 +24,28 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     // 동일 책 이름 존재 여부 확인
     boolean existsByName(String name);
 
+    // 도서 목록 첫 페이지: 이름순 + 대출 여부 (대출 중 기록은 active_book_id 유니크 인덱스로 도서당 최대 1건 조인)
+    @Query("SELECT new com.group.totalproject.dto.book.response.BookCatalogResponse(b.id, b.name, h.id, h.loanedAt) " +
+            "FROM Book b LEFT JOIN UserLoanHistory h ON h.activeBookId = b.id " +
+            "ORDER BY b.name")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<BookCatalogResponse> findCatalog(Pageable pageable);
+
+    // 도서 목록 다음 페이지: cursor(이전 페이지 마지막 도서 ID)의 이름보다 뒤의 도서 (uk_book_name 인덱스 범위 조회)
+    @Query("SELECT new com.group.totalproject.dto.book.response.BookCatalogResponse(b.id, b.name, h.id, h.loanedAt) " +
+            "FROM Book b LEFT JOIN UserLoanHistory h ON h.activeBookId = b.id " +
+            "WHERE b.name > (SELECT c.name FROM Book c WHERE c.id = :cursor) " +
+            "ORDER BY b.name")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<BookCatalogResponse> findCatalogAfter(@Param("cursor") long cursor, Pageable pageable);
+
+    // 같은 이름이 2권 이상인 이름 수 (유니크 인덱스 추가 전에 등록된 중복 확인용)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT name FROM book GROUP BY name HAVING COUNT(*) > 1) duplicated", nativeQuery = true)
+    long countDuplicatedNames();
+
+    // 책 이름 목록으로 (name, id) 일괄 조회 (이름 → ID 캐시에 없는 이름만 IN 조회 1회)
+    @Query("SELECT b.name, b.id FROM Book b WHERE b.name IN :names")
+    List<Object[]> findNameAndIdByNameIn(@Param("names") Collection<String> names);
+
 
 }
@@ -0,0 +1,30 @@
+package com.group.totalproject.domain.sequence;
+
+/**
+ * 엔티티 ID 채번 테이블(id_sequences) 설정
+ *  - 행 1개 = 엔티티 1종 (sequence_name = 테이블 이름, next_val = 다음에 나눠줄 블록의 첫 번째 ID)
+ *  - Hibernate TableGenerator + pooled-lo: 노드마다 ALLOCATION_SIZE개 블록을 한 번에 가져와 메모리에서 나눠줌
+ *    → IDENTITY와 달리 INSERT 전에 ID를 알 수 있어 JDBC 배치로 묶을 수 있음
+ *  - 단, 노드마다 다른 블록을 나눠주므로 노드 간에는 나중에 등록된 행의 ID가 더 작을 수 있음
+ *    → 회원(User)은 id 내림차순 커서 페이징을 위해 IDENTITY(AUTO_INCREMENT) 유지 (이 테이블을 사용하지 않음)
+ *  - MySQL/H2 모두 일반 테이블 + 행 잠금만 사용
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final String GENERATOR = "org.hibernate.id.enhanced.TableGenerator";
+    public static final String OPTIMIZER = "pooled-lo"; // next_val을 블록의 첫 ID로 사용 (기존 최대 ID + 1부터 이어서 채번)
+    public static final String ALLOCATION_SIZE = "50";
+
+    // 세그먼트 = 테이블 이름 (IdSequenceInitializer가 기동 시 MAX(id)와 맞춤)
+    public static final String BOOK = "book";
+    public static final String USER_LOAN_HISTORY = "user_loan_history";
+    public static final String ADMIN = "admin";
+
+    private IdSequences() {
+    }
+
+}
@@ -15,7 +15,10 @@ import java.util.List;
 public class User {
 
     @Id // 해당 필드를 pk로 간주
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // pk 자동 생성: strategy = GenerationType.IDENTITY(MySQL의 auto_increment와 동일)
+    // pk 자동 생성: strategy = GenerationType.IDENTITY(MySQL의 auto_increment와 동일)
+    // id_sequences를 쓰지 않음: 노드별 블록은 id 내림차순 커서 페이징 순서를 깨고, 1개씩 채번은 INSERT마다 채번 행 잠금이 추가됨
+    // (대량 등록은 UserJdbcRepository.saveUsers가 ID 없이 JDBC 배치 INSERT)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id = null;
 
     @Column(nullable = false, length = 20) // name varchar(20)
@@ -1,10 +1,14 @@
 package com.group.totalproject.domain.user;
 
+import com.group.totalproject.dto.user.response.UserResponse;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +23,47 @@ public interface UserRepository extends JpaRepository<User, Long> { // 인터페
     // 동일 유저 존재 여부 확인
     boolean existsByName(String name);
 
+    // 이미 존재하는 이름 목록 (일괄 등록 시 중복 검사를 건별 existsByName 대신 IN 조회로 처리)
+    @Query("SELECT u.name FROM User u WHERE u.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    // 최신순 회원 ID 목록 (캐시 워밍업 시 페이지 경계 커서 계산용)
+    @Query("SELECT u.id FROM User u ORDER BY u.id DESC")
+    List<Long> findIdsOrderByIdDesc(Pageable pageable);
+
     @Query("SELECT u FROM User u ORDER BY u.id DESC")
     List<User> findTopByOrderByIdDesc(Pageable pageable);
 
     @Query("SELECT u FROM User u WHERE u.id < :cursor ORDER BY u.id DESC")
     List<User> findByIdLessThanOrderByIdDesc(@Param("cursor") Long cursor, Pageable pageable);
 
+    // DTO 프로젝션 조회: User 엔티티(영속성 컨텍스트 등록, userLoanHistories 컬렉션 생성) 없이 id, name, age만 UserResponse로 바로 생성
+    // org.hibernate.readOnly: 스냅샷(더티 체킹) 생략, org.hibernate.fetchSize: 드라이버가 한 번에 가져올 로우 수
+    @Query("SELECT new com.group.totalproject.dto.user.response.UserResponse(u.id, u.name, u.age) FROM User u ORDER BY u.id DESC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true"), @QueryHint(name = "org.hibernate.fetchSize", value = "100")})
+    List<UserResponse> findResponsesOrderByIdDesc(Pageable pageable);
+
+    @Query("SELECT new com.group.totalproject.dto.user.response.UserResponse(u.id, u.name, u.age) FROM User u WHERE u.id < :cursor ORDER BY u.id DESC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true"), @QueryHint(name = "org.hibernate.fetchSize", value = "100")})
+    List<UserResponse> findResponsesByIdLessThanOrderByIdDesc(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 정규화 캐시 재적재 중 변경된 회원 재동기화용
+    @Query("SELECT new com.group.totalproject.dto.user.response.UserResponse(u.id, u.name, u.age) FROM User u WHERE u.id IN :ids")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 이름 접두어 검색 + 이름 키셋 페이징: name LIKE 'prefix%' AND name > after → idx_user_name 범위 스캔 (OFFSET 없이 다음 페이지 조회)
+    @Query("SELECT new com.group.totalproject.dto.user.response.UserResponse(u.id, u.name, u.age) FROM User u " +
+            "WHERE u.name LIKE CONCAT(:prefix, '%') AND u.name > :after ORDER BY u.name ASC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<UserResponse> findResponsesByNamePrefix(@Param("prefix") String prefix, @Param("after") String after, Pageable pageable);
+
+    // 이름 자동완성 (Redis 이름 인덱스 적재 전 대체 조회, idx_user_name만 읽음)
+    // Redis 이름 인덱스와 같은 순서: 소문자 이름(prefixKey, afterKey는 소문자로 전달) 순, 같으면 원래 이름 순 (DB 콜레이션과 관계없이 대소문자 구분 없음)
+    @Query("SELECT u.name FROM User u WHERE LOWER(u.name) LIKE CONCAT(:prefixKey, '%') " +
+            "AND (LOWER(u.name) > :afterKey OR (LOWER(u.name) = :afterKey AND u.name > :after)) " +
+            "ORDER BY LOWER(u.name) ASC, u.name ASC")
+    List<String> findNamesByPrefix(@Param("prefixKey") String prefixKey, @Param("afterKey") String afterKey, @Param("after") String after,
+                                   Pageable pageable);
+
 }
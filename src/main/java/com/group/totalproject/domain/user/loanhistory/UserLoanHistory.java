@@ -1,17 +1,37 @@
 package com.group.totalproject.domain.user.loanhistory;
 
 import com.group.totalproject.domain.book.Book;
+import com.group.totalproject.domain.sequence.IdSequences;
 import com.group.totalproject.domain.user.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import java.time.LocalDateTime;
 
 
 @Entity
+// 도서당 대출 중 기록은 1건만 허용: 대출 중이면 active_book_id = book_id, 반납하면 NULL (NULL은 유니크 검사에서 제외)
+// 대출 목록(GET /book)은 대출일자 최신순 키셋 페이징: (loaned_at, id) 인덱스
+// 회원 삭제 시 대출 중 기록 확인(user_id = ? AND is_return = false)은 (user_id, is_return) 인덱스 1회 탐색
+@Table(uniqueConstraints = { @UniqueConstraint(name = "uk_user_loan_history_active_book", columnNames = "active_book_id") },
+        indexes = {
+                @Index(name = "idx_user_loan_history_loaned_at", columnList = "loaned_at, id"),
+                @Index(name = "idx_user_loan_history_user_return", columnList = "user_id, is_return")
+        })
 public class UserLoanHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id_sequences 테이블 기반 pooled-lo 채번 (대출 기록 INSERT 배치 가능, 노드 간 ID 순서 ≠ 대출 순서이므로 목록은 loaned_at 순)
+    @GeneratedValue(generator = "user_loan_history_id")
+    @GenericGenerator(name = "user_loan_history_id", strategy = IdSequences.GENERATOR, parameters = {
+            @Parameter(name = "table_name", value = IdSequences.TABLE),
+            @Parameter(name = "segment_column_name", value = IdSequences.SEGMENT_COLUMN),
+            @Parameter(name = "value_column_name", value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = "segment_value", value = IdSequences.USER_LOAN_HISTORY),
+            @Parameter(name = "increment_size", value = IdSequences.ALLOCATION_SIZE),
+            @Parameter(name = "optimizer", value = IdSequences.OPTIMIZER)
+    })
     private Long id = null;
 
     // @JoinColumn(조인 대상 컬럼): 디폴트로 user_id(엔티티의 필드명+_+엔티티 PK)으로 테이블에 저장됨
@@ -31,6 +51,9 @@ public class UserLoanHistory {
 
     private boolean isReturn; // DB에 1(true)인 경우 반납한 경우, 0(false)인 경우 반납되지 않은 경우
 
+    @Column(name = "active_book_id")
+    private Long activeBookId; // 대출 중인 도서 ID (반납 시 NULL) → 다른 노드의 동시 대출도 DB에서 차단
+
     private LocalDateTime loanedAt;   // 대출일자
 
     private LocalDateTime returnedAt; // 반납일자
@@ -42,6 +65,7 @@ public class UserLoanHistory {
         this.user = user;
         this.book = book;
         this.isReturn = false;
+        this.activeBookId = book.getId();
         this.loanedAt = LocalDateTime.now(); // 생성 시점 = 대출 시점
     }
 
@@ -55,6 +79,7 @@ public class UserLoanHistory {
 
     public void doReturn() {
         this.isReturn = true;
+        this.activeBookId = null;
         this.returnedAt = LocalDateTime.now(); // 반납 처리 시점
     }
 
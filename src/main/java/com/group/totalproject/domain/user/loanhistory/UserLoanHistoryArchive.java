@@ -0,0 +1,72 @@
+package com.group.totalproject.domain.user.loanhistory;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+// 오래된 반납 완료 대출 기록 보관 테이블 (LoanArchiveService가 user_loan_history에서 옮김)
+// 회원/도서가 삭제되거나 이름이 바뀌어도 조회할 수 있도록 FK 없이 ID와 보관 시점 이름을 함께 저장
+@Table(name = "user_loan_history_archive", indexes = {
+        @Index(name = "idx_loan_archive_user", columnList = "user_id, id"),
+        @Index(name = "idx_loan_archive_book", columnList = "book_id, id")
+})
+public class UserLoanHistoryArchive {
+
+    @Id
+    private Long id; // 원래 대출 기록 ID 그대로 사용 (채번 없음)
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(length = 20)
+    private String userName; // 보관 시점 회원 이름
+
+    private String bookName; // 보관 시점 책 이름
+
+    private LocalDateTime loanedAt;
+
+    private LocalDateTime returnedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 보관 일자
+
+    protected UserLoanHistoryArchive() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getBookName() {
+        return bookName;
+    }
+
+    public LocalDateTime getLoanedAt() {
+        return loanedAt;
+    }
+
+    public LocalDateTime getReturnedAt() {
+        return returnedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.group.totalproject.domain.user.loanhistory;
+
+import com.group.totalproject.dto.book.response.LoanResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserLoanHistoryArchiveRepository extends JpaRepository<UserLoanHistoryArchive, Long> {
+
+    // 반납 완료 대출 기록을 보관 테이블로 복사 (회원/도서 이름은 조인으로 함께 저장, 호출 측 트랜잭션에서 삭제와 함께 커밋)
+    @Modifying
+    @Query(value = "INSERT INTO user_loan_history_archive (id, user_id, book_id, user_name, book_name, loaned_at, returned_at, archived_at) " +
+            "SELECT h.id, h.user_id, h.book_id, u.name, b.name, h.loaned_at, h.returned_at, :archivedAt " +
+            "FROM user_loan_history h LEFT JOIN user u ON u.id = h.user_id LEFT JOIN book b ON b.id = h.book_id " +
+            "WHERE h.id IN (:ids) AND h.is_return = true", nativeQuery = true)
+    int copyReturnedLoans(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 보관된 대출 기록 목록: GET /book과 같은 형식, 커서(id < cursor) + id 내림차순
+    // 회원/도서는 현재 이름으로 찾은 ID(userId/bookId) 또는 보관 시점 이름(userName/bookName)으로 필터 (null이면 적용하지 않음)
+    @Query("SELECT new com.group.totalproject.dto.book.response.LoanResponse(a.id, a.userName, a.bookName, true, a.loanedAt, a.returnedAt) " +
+            "FROM UserLoanHistoryArchive a " +
+            "WHERE a.id < :cursor " +
+            "AND (:userId IS NULL OR a.userId = :userId) " +
+            "AND (:userName IS NULL OR a.userName = :userName) " +
+            "AND (:bookId IS NULL OR a.bookId = :bookId) " +
+            "AND (:bookName IS NULL OR a.bookName = :bookName) " +
+            "ORDER BY a.id DESC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<LoanResponse> findLoanResponses(@Param("cursor") long cursor,
+                                         @Param("userId") Long userId,
+                                         @Param("userName") String userName,
+                                         @Param("bookId") Long bookId,
+                                         @Param("bookName") String bookName,
+                                         Pageable pageable);
+
+}
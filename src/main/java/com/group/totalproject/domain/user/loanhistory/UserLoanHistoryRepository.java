@@ -1,8 +1,19 @@
 package com.group.totalproject.domain.user.loanhistory;
 
 import com.group.totalproject.domain.book.Book;
+import com.group.totalproject.dto.book.response.LoanResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserLoanHistoryRepository extends JpaRepository<UserLoanHistory, Long> {
@@ -15,6 +26,75 @@ public interface UserLoanHistoryRepository extends JpaRepository<UserLoanHistory
     // 책 반납 시 해당 책 대출 중인 기록 조회
     Optional<UserLoanHistory> findByUserIdAndBookIdAndIsReturnFalse(Long userId, Long bookId);
 
+    // 일괄 반납 시 해당 회원이 대출 중인 기록을 도서 ID 목록으로 한 번에 조회
+    List<UserLoanHistory> findByUserIdAndBookIdInAndIsReturnFalse(Long userId, Collection<Long> bookIds);
+
+    // 도서 ID 목록 중 대출 중인 도서 ID (일괄 대출 시 대출 가능 여부를 IN 조회 1회로 확인)
+    @Query("SELECT h.book.id FROM UserLoanHistory h WHERE h.isReturn = false AND h.book.id IN :bookIds")
+    List<Long> findLoanedBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    // 대출 중인 기록 수 (카운터 보정용)
+    long countByIsReturnFalse();
+
+    // 대출 중인 (도서 ID, 회원 ID) 목록 (ActiveLoanIndex 구성용, 엔티티 없이 ID만 조회)
+    @Query("SELECT h.book.id, h.user.id FROM UserLoanHistory h WHERE h.isReturn = false")
+    List<Object[]> findActiveLoanIds();
+
+    // active_book_id 컬럼 추가 전에 대출된 기록 채우기: 도서별 가장 최근 대출 중 기록만 (중복 대출 기록이 있어도 유니크 위반 없음)
+    // (MySQL은 UPDATE 대상 테이블을 서브쿼리에서 직접 읽을 수 없으므로 파생 테이블로 감쌈)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_loan_history SET active_book_id = book_id " +
+            "WHERE active_book_id IS NULL AND id IN (" +
+            "SELECT id FROM (SELECT MAX(id) AS id FROM user_loan_history WHERE is_return = false GROUP BY book_id) latest)", nativeQuery = true)
+    int backfillActiveBookIds();
+
+    // 같은 도서의 대출 중 기록이 2건 이상인 도서 수 (동시 대출 검증용)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT book_id FROM user_loan_history WHERE is_return = false GROUP BY book_id HAVING COUNT(*) > 1) duplicated", nativeQuery = true)
+    long countDuplicatedActiveLoans();
+
+    // 보관 대상 대출 기록 ID: afterId 다음부터 id 순으로 limit건 (PK 순서로 읽으므로 청크마다 이어서 조회)
+    // 반납일자가 없는 반납 기록은 반납일자 기록 이전의 오래된 반납이므로 함께 보관
+    @Query(value = "SELECT id FROM user_loan_history " +
+            "WHERE id > :afterId AND is_return = true AND (returned_at < :cutoff OR returned_at IS NULL) " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("afterId") long afterId, @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 보관 테이블로 복사한 반납 완료 기록 삭제 (대출 중 기록은 조건으로 제외)
+    @Modifying
+    @Query(value = "DELETE FROM user_loan_history WHERE id IN (:ids) AND is_return = true", nativeQuery = true)
+    int deleteReturnedLoans(@Param("ids") Collection<Long> ids);
+
+    // 대출 기록 목록: 회원/도서 이름을 조인으로 함께 조회하여 DTO로 바로 생성 (건별 지연 로딩 쿼리 없음)
+    // 대출일자 내림차순(같으면 id 내림차순) 첫 페이지, 필터는 null이면 적용하지 않음
+    @Query("SELECT new com.group.totalproject.dto.book.response.LoanResponse(h.id, u.name, b.name, h.isReturn, h.loanedAt, h.returnedAt) " +
+            "FROM UserLoanHistory h JOIN h.user u JOIN h.book b " +
+            "WHERE (:isReturn IS NULL OR h.isReturn = :isReturn) " +
+            "AND (:userName IS NULL OR u.name = :userName) " +
+            "AND (:bookName IS NULL OR b.name = :bookName) " +
+            "ORDER BY h.loanedAt DESC, h.id DESC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<LoanResponse> findLoanResponses(@Param("isReturn") Boolean isReturn,
+                                         @Param("userName") String userName,
+                                         @Param("bookName") String bookName,
+                                         Pageable pageable);
+
+    // 대출 기록 목록 다음 페이지: cursor(이전 페이지 마지막 대출 ID)의 (대출일자, id)보다 뒤의 기록 (idx_user_loan_history_loaned_at 범위 조회)
+    @Query("SELECT new com.group.totalproject.dto.book.response.LoanResponse(h.id, u.name, b.name, h.isReturn, h.loanedAt, h.returnedAt) " +
+            "FROM UserLoanHistory h JOIN h.user u JOIN h.book b " +
+            "WHERE (h.loanedAt < (SELECT c.loanedAt FROM UserLoanHistory c WHERE c.id = :cursor) " +
+            "OR (h.loanedAt = (SELECT c.loanedAt FROM UserLoanHistory c WHERE c.id = :cursor) AND h.id < :cursor)) " +
+            "AND (:isReturn IS NULL OR h.isReturn = :isReturn) " +
+            "AND (:userName IS NULL OR u.name = :userName) " +
+            "AND (:bookName IS NULL OR b.name = :bookName) " +
+            "ORDER BY h.loanedAt DESC, h.id DESC")
+    @QueryHints({@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    List<LoanResponse> findLoanResponsesAfter(@Param("cursor") long cursor,
+                                              @Param("isReturn") Boolean isReturn,
+                                              @Param("userName") String userName,
+                                              @Param("bookName") String bookName,
+                                              Pageable pageable);
+
     /*
     // ※ 책 이름으로 히스토리 저장하는 경우
     boolean existsByBookNameAndIsReturn(String name, boolean isReturn);
@@ -0,0 +1,19 @@
+package com.group.totalproject.dto.book.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookLoanBatchRequest { // 회원 1명의 여러 권 대출 (POST /book/loan/batch)
+    private String userName;
+    private List<String> bookNames;
+
+    public BookLoanBatchRequest() {
+    }
+
+    public BookLoanBatchRequest(String userName, List<String> bookNames) {
+        this.userName = userName;
+        this.bookNames = bookNames;
+    }
+}
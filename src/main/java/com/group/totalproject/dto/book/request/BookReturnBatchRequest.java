@@ -0,0 +1,19 @@
+package com.group.totalproject.dto.book.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookReturnBatchRequest { // 회원 1명의 여러 권 반납 (PUT /book/return/batch)
+    private String userName;
+    private List<String> bookNames;
+
+    public BookReturnBatchRequest() {
+    }
+
+    public BookReturnBatchRequest(String userName, List<String> bookNames) {
+        this.userName = userName;
+        this.bookNames = bookNames;
+    }
+}
@@ -4,6 +4,14 @@ public class BookReturnRequest {
     public String userName;
     public String bookName;
 
+    public BookReturnRequest() {
+    }
+
+    public BookReturnRequest(String userName, String bookName) {
+        this.userName = userName;
+        this.bookName = bookName;
+    }
+
     public String getUserName() {
         return userName;
     }
@@ -0,0 +1,35 @@
+package com.group.totalproject.dto.book.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookBatchResponse { // 일괄 대출/반납 결과: 요청 건수, 처리 건수, 도서별 결과(요청 순서)
+
+    private final int requested;
+    private final int succeeded;
+    private final List<ItemResult> results;
+
+    public BookBatchResponse(int requested, int succeeded, List<ItemResult> results) {
+        this.requested = requested;
+        this.succeeded = succeeded;
+        this.results = results;
+    }
+
+    @Getter
+    public static class ItemResult {
+
+        private final String bookName;
+        private final boolean success;
+        private final String reason; // 실패 이유 (성공이면 null)
+
+        public ItemResult(String bookName, boolean success, String reason) {
+            this.bookName = bookName;
+            this.success = success;
+            this.reason = reason;
+        }
+
+    }
+
+}
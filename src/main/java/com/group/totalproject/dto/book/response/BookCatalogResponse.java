@@ -0,0 +1,26 @@
+package com.group.totalproject.dto.book.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BookCatalogResponse { // 도서 목록 1건: 도서 정보 + 대출 가능 여부
+
+    private final long id;
+    private final String name;
+    private final boolean available;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL) // 대출 가능한 도서는 JSON에서 제외
+    private final LocalDateTime loanedAt; // 대출 중이면 대출일자
+
+    // 대출 중 기록과 LEFT JOIN한 결과: 조인된 대출 기록이 없으면(activeLoanId == null) 대출 가능
+    public BookCatalogResponse(long id, String name, Long activeLoanId, LocalDateTime loanedAt) {
+        this.id = id;
+        this.name = name;
+        this.available = activeLoanId == null;
+        this.loanedAt = loanedAt;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.group.totalproject.dto.user.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserBatchCreateRequest { // 회원 일괄 등록 (POST /user/batch)
+    private List<UserCreateRequest> users;
+}
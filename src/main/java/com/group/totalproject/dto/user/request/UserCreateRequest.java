@@ -7,6 +7,5 @@ public class UserCreateRequest {
 
     private String name;
     private Integer age; // Integer: null 표현 가능 / int: null 표현 불가능
-    private Integer pageSize;
 
 }
@@ -5,5 +5,4 @@ import lombok.Getter;
 @Getter
 public class UserDeleteRequest {
     private String name;
-    private int pageSize;
 }
@@ -0,0 +1,35 @@
+package com.group.totalproject.dto.user.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserImportResponse { // 회원 일괄 등록 결과: 요청 건수, 등록 건수, 등록하지 못한 행과 이유
+
+    private final int requested;
+    private final int created;
+    private final List<RowError> failures;
+
+    public UserImportResponse(int requested, int created, List<RowError> failures) {
+        this.requested = requested;
+        this.created = created;
+        this.failures = failures;
+    }
+
+    @Getter
+    public static class RowError {
+
+        private final int row; // JSON: 목록 순서(1부터), CSV: 파일의 줄 번호
+        private final String name;
+        private final String reason;
+
+        public RowError(int row, String name, String reason) {
+            this.row = row;
+            this.name = name;
+            this.reason = reason;
+        }
+
+    }
+
+}
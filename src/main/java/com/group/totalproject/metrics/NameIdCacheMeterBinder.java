@@ -0,0 +1,51 @@
+package com.group.totalproject.metrics;
+
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.cache.name.NameIdCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 이름 → ID 캐시 적중 지표 (GET /cache/name-ids와 같은 값)
+ *  - name.id.cache.gets{cache=user|book, result=hit|miss} : 누적 조회 수
+ *  - name.id.cache.evictions{cache}                       : 크기 제한/TTL로 제거된 항목 수
+ *  - name.id.cache.size{cache}                            : 항목 수
+ * (cache.gets는 2단계 캐시 지표가 tier 태그와 함께 사용하므로 이름을 구분함)
+ */
+@Component
+@RequiredArgsConstructor
+public class NameIdCacheMeterBinder implements MeterBinder {
+
+    private final NameIdCache nameIdCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String cacheName : new String[]{NameIdCache.USERS, NameIdCache.BOOKS}) {
+            register(registry, "name.id.cache.gets", cacheName, "hit", NameIdCacheStats::getHits);
+            register(registry, "name.id.cache.gets", cacheName, "miss", NameIdCacheStats::getMisses);
+            register(registry, "name.id.cache.evictions", cacheName, null, NameIdCacheStats::getEvictions);
+
+            Gauge.builder("name.id.cache.size", nameIdCache, cache -> cache.getStats(cacheName).getSize())
+                    .tag("cache", cacheName)
+                    .register(registry);
+        }
+    }
+
+    private void register(MeterRegistry registry, String name, String cacheName, String result,
+                          ToDoubleFunction<NameIdCacheStats> count) {
+        FunctionCounter.Builder<NameIdCache> builder = FunctionCounter
+                .builder(name, nameIdCache, cache -> count.applyAsDouble(cache.getStats(cacheName)))
+                .tag("cache", cacheName);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.group.totalproject.metrics;
+
+import com.group.totalproject.cache.TwoLevelCache;
+import com.group.totalproject.cache.TwoLevelCacheManager;
+import com.group.totalproject.cache.user.UserPageIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 2단계 캐시(L1 Caffeine + L2 Redis) 적중 지표를 캐시 이름별로 등록
+ *  - cache.gets{cache, tier=l1|l2, result=hit|miss} : 누적 조회 수 (GET /cache/stats와 같은 값)
+ *  - cache.size{cache, tier=l1}                     : L1 항목 수
+ * 캐시는 처음 사용할 때 생성되므로, 바인딩 시점에 알려진 캐시 이름(회원 페이지 캐시 포함)을 미리 생성해 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheMeterBinder implements MeterBinder {
+
+    private final TwoLevelCacheManager userCacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<String> cacheNames = new LinkedHashSet<>(userCacheManager.getCacheNames());
+        cacheNames.add(UserPageIndex.CACHE_NAME);
+
+        for (String cacheName : cacheNames) {
+            TwoLevelCache cache = userCacheManager.getCache(cacheName);
+            registerGets(registry, cache, "l1", "hit", c -> c.getStats().getL1Hits());
+            registerGets(registry, cache, "l1", "miss", c -> c.getStats().getL1Misses());
+            registerGets(registry, cache, "l2", "hit", c -> c.getStats().getL2Hits());
+            registerGets(registry, cache, "l2", "miss", c -> c.getStats().getL2Misses());
+
+            Gauge.builder("cache.size", cache, c -> c.getStats().getL1Size())
+                    .tag("cache", cacheName)
+                    .tag("tier", "l1")
+                    .register(registry);
+        }
+    }
+
+    private static void registerGets(MeterRegistry registry, TwoLevelCache cache, String tier, String result,
+                                     ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.gets", cache, count)
+                .tag("cache", cache.getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+}
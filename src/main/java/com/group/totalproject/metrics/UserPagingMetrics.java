@@ -0,0 +1,43 @@
+package com.group.totalproject.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 목록 조회(GET /user) 지표: 페이징 방식(type)별 응답 시간 히스토그램과 조회 건수
+ *  - user.paging.latency{type, cache} : 나노초 단위 기록, p50/p95/p99 + Prometheus 히스토그램 버킷
+ *  - user.paging.rows{type}           : 응답에 담긴 회원 수
+ * type은 컨트롤러에서 검증된 값(cache-cursor, cache-zset, cursor, offset)만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPagingMetrics {
+
+    public static final String LATENCY = "user.paging.latency";
+    public static final String ROWS = "user.paging.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String type, boolean cacheHit, long elapsedNanos, int rows) {
+        Timer.builder(LATENCY)
+                .description("회원 목록 조회 응답 시간 (페이징 방식별)")
+                .tag("type", type)
+                .tag("cache", cacheHit ? "hit" : "miss")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry) // 같은 이름/태그면 이미 등록된 Timer 반환
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(ROWS)
+                .description("회원 목록 조회 건수 (페이징 방식별)")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.group.totalproject.prop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.maintenance") // application.yml 파일의 cache.maintenance.* 설정 값을 객체에 매핑 (설정이 없으면 아래 기본값 사용)
+public class CacheMaintenanceProps { // 커밋 후 회원 캐시 반영 작업 설정
+
+    private int queueCapacity = 10_000; // 대기열 최대 크기 (가득 차면 요청 스레드가 offerTimeout 동안 대기)
+
+    private Duration offerTimeout = Duration.ofMillis(100); // 대기열이 가득 찼을 때 기다리는 시간, 초과하면 캐시 전체 무효화로 대체
+
+    private int batchSize = 500; // 한 번에 묶어서 반영할 최대 이벤트 수
+
+    private Duration linger = Duration.ofMillis(20); // 연속된 변경을 한 번에 묶기 위해 첫 이벤트 이후 기다리는 시간
+
+}
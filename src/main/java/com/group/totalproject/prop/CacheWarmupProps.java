@@ -0,0 +1,27 @@
+package com.group.totalproject.prop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.warmup") // application.yml 파일의 cache.warmup.* 설정 값을 객체에 매핑 (설정이 없으면 아래 기본값 사용)
+public class CacheWarmupProps { // 기동 시 회원 페이지 캐시 워밍업 설정
+
+    private boolean enabled = true; // 워밍업 사용 여부 (cache.warmup.enabled)
+
+    private List<Integer> pageSizes = List.of(100); // 워밍업할 페이지 크기 (프론트엔드 PAGE_SIZE = 100)
+
+    private int pagesPerSize = 10; // 페이지 크기별로 적재할 앞쪽 커서 페이지 수
+
+    private int threads = 4; // 동시에 적재할 페이지 수
+
+    private double readyFraction = 0.8; // 이 비율 이상 적재되어야 트래픽을 받기 시작 (0이면 기다리지 않음)
+
+    private Duration timeout = Duration.ofSeconds(30); // 비율을 채우지 못해도 이 시간이 지나면 트래픽을 받기 시작
+
+}
@@ -0,0 +1,26 @@
+package com.group.totalproject.prop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan.archive") // application.yml 파일의 loan.archive.* 설정 값을 객체에 매핑 (설정이 없으면 아래 기본값 사용)
+public class LoanArchiveProps { // 반납 완료 대출 기록 보관 작업 설정 (실행 주기: loan.archive.interval-ms)
+
+    private boolean enabled = true;
+
+    private Duration age = Duration.ofDays(365); // 반납 후 이 기간이 지난 기록을 보관 테이블로 옮김
+
+    private int chunkSize = 500; // 트랜잭션 1회에 옮기는 건수 (작을수록 행 잠금/undo 로그가 짧게 유지됨)
+
+    private Duration pause = Duration.ofMillis(200); // 청크 사이 최소 대기 시간
+
+    private double dutyCycle = 0.2; // 작업 시간 비율 상한: 청크 처리 시간이 길어지면(DB 부하) 그만큼 더 오래 쉼 (0.2 → 처리 1 : 대기 4)
+
+    private Duration maxRunTime = Duration.ofMinutes(30); // 1회 실행 최대 시간 (남은 기록은 다음 실행에서 이어서 처리)
+
+}
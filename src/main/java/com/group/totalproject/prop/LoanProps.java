@@ -0,0 +1,18 @@
+package com.group.totalproject.prop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan") // application.yml 파일의 loan.* 설정 값을 객체에 매핑 (설정이 없으면 아래 기본값 사용)
+public class LoanProps { // 대출/반납 처리 설정
+
+    private int lockStripes = 1024; // 도서별 락 개수 (2의 거듭제곱으로 올림), 많을수록 서로 다른 도서가 같은 락을 기다릴 확률이 낮아짐
+
+    private Duration lockTimeout = Duration.ofSeconds(3); // 같은 도서(락)의 대출/반납을 기다리는 최대 시간
+
+}
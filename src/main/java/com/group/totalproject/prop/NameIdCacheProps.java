@@ -0,0 +1,20 @@
+package com.group.totalproject.prop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.name-id") // application.yml 파일의 cache.name-id.* 설정 값을 객체에 매핑
+public class NameIdCacheProps { // 회원/도서 이름 → ID 캐시 설정 (적중률은 GET /cache/name-ids, name.id.cache.gets 지표로 확인 후 조정)
+
+    private long userMaximumSize = 10_000; // 회원 이름 캐시 최대 항목 수 (cache.name-id.user-maximum-size)
+
+    private long bookMaximumSize = 10_000; // 도서 이름 캐시 최대 항목 수 (cache.name-id.book-maximum-size)
+
+    private Duration ttl = Duration.ofMinutes(10); // 무효화 메시지 유실 시에도 오래된 이름이 이 시간 이상 남지 않음
+
+}
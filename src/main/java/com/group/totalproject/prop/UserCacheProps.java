@@ -0,0 +1,31 @@
+package com.group.totalproject.prop;
+
+import com.group.totalproject.cache.codec.CacheCodec;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.user") // application.yml 파일의 cache.user.* 설정 값을 객체에 매핑 (설정이 없으면 아래 기본값 사용)
+public class UserCacheProps { // 회원 목록 캐시 관련 설정
+
+    private long l1MaximumSize = 500; // 로컬(L1) 캐시 최대 항목 수 (cache.user.l1-maximum-size)
+
+    private Duration l1Ttl = Duration.ofSeconds(30); // 로컬(L1) 캐시 유지 시간: 무효화 메시지 유실 시에도 오래된 값이 이 시간 이상 남지 않음
+
+    private Duration lockTtl = Duration.ofSeconds(5); // 캐시 MISS 시 노드 간 재계산 락 유지 시간 (락을 잡은 노드가 죽어도 이 시간 후 해제)
+
+    private Duration lockWait = Duration.ofSeconds(2); // 다른 노드가 락을 잡고 있을 때 L2에 값이 채워지기를 기다리는 최대 시간
+
+    private double earlyRefreshBeta = 1.0; // 만료 전 확률적 재계산 강도 (0이면 사용 안 함, 클수록 더 일찍 재계산)
+
+    private Duration earlyRefreshDefaultDelta = Duration.ofMillis(200); // 재계산 소요 시간을 모를 때(다른 노드가 적재한 값) 사용할 기본값
+
+    private CacheCodec codec = CacheCodec.JSON; // 캐시 값 직렬화 방식 (json | binary), 전환 전 JSON 항목은 binary 코덱에서도 읽을 수 있음
+
+    private int compressionThreshold = 1024; // binary 코덱에서 이 크기(바이트)를 넘는 값만 압축
+
+}
@@ -0,0 +1,38 @@
+package com.group.totalproject.repository.sequence;
+
+import com.group.totalproject.domain.sequence.IdSequences;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기동 시 채번 테이블을 기존 데이터와 맞춤 (웹 서버가 요청을 받기 전, 스키마 생성 이후 실행)
+ * IDENTITY 시절 저장된 도서/대출 기록/관리자의 최대 ID 다음부터 채번되도록 하여 ID 충돌을 막고 id 내림차순 페이징 순서를 유지
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // Hibernate 스키마 생성(ddl-auto) 이후 실행
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 세그먼트 → 테이블
+    private static final Map<String, String> SEGMENT_TABLES = Map.of(
+            IdSequences.BOOK, "book",
+            IdSequences.USER_LOAN_HISTORY, "user_loan_history",
+            IdSequences.ADMIN, "admin"
+    );
+
+    private final IdSequenceJdbcRepository idSequenceJdbcRepository;
+
+    @PostConstruct
+    public void alignSequences() {
+        idSequenceJdbcRepository.createTableIfNotExists();
+        SEGMENT_TABLES.forEach(idSequenceJdbcRepository::alignWithMaxId);
+        log.info("[ID 채번 테이블 확인 완료] 세그먼트: {}", SEGMENT_TABLES.keySet());
+    }
+
+}
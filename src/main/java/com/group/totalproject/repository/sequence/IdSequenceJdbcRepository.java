@@ -0,0 +1,64 @@
+package com.group.totalproject.repository.sequence;
+
+import com.group.totalproject.domain.sequence.IdSequences;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * id_sequences 테이블 직접 접근 (JPA 밖에서 INSERT하는 경우의 ID 할당, 기동 시 기존 데이터와 맞춤)
+ * Hibernate TableGenerator와 같은 행을 사용하므로 JPA 저장과 JDBC 저장의 ID가 겹치지 않음
+ */
+@Repository
+public class IdSequenceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction; // 채번은 호출한 트랜잭션과 분리 (롤백되어도 ID 블록은 반환하지 않음, 행 잠금을 짧게 유지)
+
+    public IdSequenceJdbcRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // count개의 연속 ID 블록을 할당하고 첫 번째 ID 반환 (반환값 ~ 반환값 + count - 1)
+    public long allocate(String segment, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("할당할 ID 개수는 1 이상이어야 합니다: " + count);
+        }
+
+        Long first = newTransaction.execute(status -> {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE + " WHERE " + IdSequences.SEGMENT_COLUMN + " = ? FOR UPDATE",
+                    Long.class, segment);
+            jdbcTemplate.update(
+                    "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ? WHERE " + IdSequences.SEGMENT_COLUMN + " = ?",
+                    next + count, segment);
+            return next;
+        });
+        return first;
+    }
+
+    // 채번 테이블이 없으면 생성 (ddl-auto가 none/validate인 환경 대비)
+    public void createTableIfNotExists() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdSequences.TABLE + " ("
+                + IdSequences.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + IdSequences.VALUE_COLUMN + " BIGINT)");
+    }
+
+    // next_val을 테이블의 MAX(id) + 1 이상으로 맞춤 (IDENTITY로 저장된 기존 데이터나 ID를 직접 지정한 INSERT 이후)
+    // 행이 없으면 MAX(id) + 1로 생성, 이미 더 크면 그대로 둠
+    public void alignWithMaxId(String segment, String table) {
+        newTransaction.executeWithoutResult(status -> {
+            String nextId = "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ")";
+            jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.SEGMENT_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") "
+                    + "SELECT ?, " + nextId + " FROM (SELECT 1 AS one) seed "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM " + IdSequences.TABLE + " WHERE " + IdSequences.SEGMENT_COLUMN + " = ?)", segment, segment);
+            jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = " + nextId
+                    + " WHERE " + IdSequences.SEGMENT_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < " + nextId, segment);
+        });
+    }
+
+}
@@ -2,9 +2,13 @@ package com.group.totalproject.repository.user;
 
 import com.group.totalproject.dto.user.response.UserResponse;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 @Repository
@@ -21,6 +25,21 @@ public class UserJdbcRepository { // JDBC 템플릿 DB 접속: UserServiceV1 버
         jdbcTemplate.update(sql, name, age); // .update(): INSERT, UPDATE, DELETE 쿼리에 사용
     }
 
+    // 회원 일괄 등록: rows = (name, age) 목록, batchSize건씩 JDBC 배치로 전송
+    // IDENTITY 키 생성 방식이라 Hibernate는 INSERT를 배치로 묶지 못하므로 JdbcTemplate 사용 (ID는 AUTO_INCREMENT가 부여)
+    // (MySQL은 rewriteBatchedStatements=true일 때 배치를 다중 행 INSERT 1개로 전송)
+    public void saveUsers(List<Object[]> rows, int batchSize) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO user (name, age) VALUES (?, ?)";
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, row) -> {
+            ps.setString(1, (String) row[0]);
+            ps.setObject(2, row[1]);
+        });
+    }
+
     public List<UserResponse> getUsers() {
         String sql = "SELECT * FROM user";
         return jdbcTemplate.query(sql, (rs, rowNum) -> { // 두번째 익명 클래스(익명 객체)를 람다식으로 변환 RowMapper
@@ -31,6 +50,24 @@ public class UserJdbcRepository { // JDBC 템플릿 DB 접속: UserServiceV1 버
         });
     }
 
+    // 전체 회원을 id 오름차순으로 한 건씩 전달 (결과를 List로 모으지 않으므로 회원 수와 무관하게 메모리 사용량 일정)
+    // fromId: 이 id 다음부터 조회(이어받기), fetchSize: 드라이버가 한 번에 가져올 로우 수
+    public void streamUsers(long fromId, int fetchSize, Consumer<UserResponse> consumer) {
+        String sql = "SELECT id, name, age FROM user WHERE id > ? ORDER BY id ASC";
+        jdbcTemplate.query(con -> {
+            // TYPE_FORWARD_ONLY + CONCUR_READ_ONLY: 앞으로만 읽는 읽기 전용 커서
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 메모리에 모두 올리지 않고 스트리밍함
+            boolean isMySql = con.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            ps.setFetchSize(isMySql ? Integer.MIN_VALUE : fetchSize);
+            ps.setLong(1, fromId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            Object age = rs.getObject("age");
+            consumer.accept(new UserResponse(rs.getLong("id"), rs.getString("name"), age == null ? null : rs.getInt("age")));
+        });
+    }
+
     public boolean isUserNotExist(long id) {
         String readSql = "SELECT * FROM user WHERE id = ?";
         return jdbcTemplate.query(readSql, (rs, rowNum) -> 0, id).isEmpty(); // isEmpty(): id가 존재하지 않는 경우(비어있는 경우) true 반환, id가 존재하는 경우(비어있지 않은 경우) false 반환
@@ -1,23 +1,41 @@
 package com.group.totalproject.service.book;
 
+import com.group.totalproject.cache.loan.ActiveLoanIndex;
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.counter.CollectionVersion;
+import com.group.totalproject.counter.CollectionVersionService;
+import com.group.totalproject.counter.EntityCounter;
+import com.group.totalproject.counter.EntityCounterService;
 import com.group.totalproject.domain.book.Book;
 import com.group.totalproject.domain.book.BookRepository;
-import com.group.totalproject.domain.user.User;
 import com.group.totalproject.domain.user.UserRepository;
 import com.group.totalproject.domain.user.loanhistory.UserLoanHistory;
 import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
 import com.group.totalproject.dto.book.request.BookCreateRequest;
+import com.group.totalproject.dto.book.request.BookLoanBatchRequest;
 import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.dto.book.request.BookReturnBatchRequest;
 import com.group.totalproject.dto.book.request.BookReturnRequest;
+import com.group.totalproject.dto.book.response.BookBatchResponse;
+import com.group.totalproject.dto.book.response.BookCatalogResponse;
 import com.group.totalproject.dto.book.response.LoanResponse;
 import com.group.totalproject.dto.user.response.UserResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,9 +43,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor // final이 붙은 필드의 생성자를 자동으로 생성
 public class BookService {
 
+    public static final int MAX_BATCH_SIZE = 50; // 일괄 대출/반납 1회 최대 권수
+
     private final BookRepository bookRepository;
     private final UserLoanHistoryRepository userLoanHistoryRepository;
     private final UserRepository userRepository;
+    private final EntityCounterService entityCounterService;
+    private final CollectionVersionService collectionVersionService;
+    private final ActiveLoanIndex activeLoanIndex; // 대출 중 도서/회원 메모리 인덱스
+    private final NameIdCache nameIdCache; // 회원/도서 이름 → ID 캐시
 
 /*
     public BookService(
@@ -41,11 +65,47 @@ public class BookService {
     }
 */
 
+    // 대출 기록 커서 페이징: cursor(이전 페이지 마지막 대출 ID) 다음부터 대출일자 최신순으로 size건
+    // 대출 기록 ID는 노드별 블록(id_sequences)으로 채번되어 노드 간에는 대출 순서와 다를 수 있으므로 (loaned_at, id) 순으로 정렬
+    // 회원/도서 이름은 조인 1회로 함께 조회 (LoanResponse(UserLoanHistory)처럼 건별 지연 로딩 쿼리가 발생하지 않음)
     @Transactional(readOnly = true)
-    public List<LoanResponse> getLoans() {
+    public List<LoanResponse> getLoans(Long cursor, int size, Boolean isReturn, String userName, String bookName) {
+        PageRequest page = PageRequest.of(0, size);
+        return cursor == null
+                ? userLoanHistoryRepository.findLoanResponses(isReturn, blankToNull(userName), blankToNull(bookName), page)
+                : userLoanHistoryRepository.findLoanResponsesAfter(cursor, isReturn, blankToNull(userName), blankToNull(bookName), page);
+
+        /* 전체 조회: 대출 기록 전체를 엔티티로 읽고 회원/도서 이름을 건별로 지연 로딩 (N+1)
         return userLoanHistoryRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).stream() // findAll(): 메소드는 저장소에서 모든 사용자 데이터를 List<LoanResponse> 형태로 가져옴
                 .map(LoanResponse::new) // map(): 스트림 요소를 사용하려는 형태로 변환하는 중간연산 / LoanResponse::new(생성자 참조, (user) -> new LoanResponse(user);와 동일한 형태) : userLoanHistoryRepository 객체를 LoanResponse 객체로 변환
                 .collect(Collectors.toList());  // LoanResponse 객체들을 다시 리스트 형태로 수집하는 최종연산
+        */
+    }
+
+    // 도서 목록: 이름순 키셋 페이징 (cursor = 이전 페이지 마지막 도서 ID), 대출 가능 여부는 같은 쿼리의 조인으로 함께 조회
+    @Transactional(readOnly = true)
+    public List<BookCatalogResponse> getCatalog(Long cursor, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        return cursor == null
+                ? bookRepository.findCatalog(page)
+                : bookRepository.findCatalogAfter(cursor, page);
+    }
+
+    // uk_book_name 유니크 인덱스는 중복 이름이 남아 있으면 생성되지 않으므로 기동 시 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkDuplicatedBookNames() {
+        try {
+            long duplicated = bookRepository.countDuplicatedNames();
+            if (duplicated > 0) {
+                log.error("[도서 이름 중복] 같은 이름이 2권 이상인 이름: {}개, 정리 후 uk_book_name 유니크 인덱스를 확인해주세요.", duplicated);
+            }
+        } catch (DataAccessException e) {
+            log.error("[도서 이름 중복 확인 실패] 이유: {}", e.getMessage());
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     @Transactional
@@ -67,7 +127,14 @@ public class BookService {
             throw new IllegalArgumentException("이미 존재하는 책 이름입니다. \n다른 이름을 사용해주세요.");
         }
 
-        bookRepository.save(new Book(request.getName()));
+        try {
+            bookRepository.saveAndFlush(new Book(request.getName())); // 바로 INSERT하여 동시 등록의 유니크 위반을 여기서 확인
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[도서 등록 실패] 동시에 등록된 이름: {}", request.getName());
+            throw new IllegalArgumentException("이미 존재하는 책 이름입니다. \n다른 이름을 사용해주세요.");
+        }
+        entityCounterService.increment(EntityCounter.BOOK); // 커밋 후 도서 수 +1
+        nameIdCache.evictBook(request.getName()); // 커밋 후 모든 노드의 같은 이름 항목 제거 (다음 조회 시 새 ID 적재)
         log.info("[도서 등록 완료]");
     }
 
@@ -87,28 +154,35 @@ public class BookService {
             throw new IllegalArgumentException("책 이름은 필수입니다.");
         }
 
-        // 1. 유저 정보 조회 (select * from user where user.name = ?)
-        User user = userRepository.findByName(request.getUserName())
+        // 1. 회원 ID 조회 (이름 → ID 캐시, 없으면 select id from user where user.name = ?)
+        Long userId = nameIdCache.userId(request.getUserName())
                 .orElseThrow(() -> {
                     log.warn("[도서 대출 실패] 존재하지 않는 회원: {}", request.getUserName());
                     return new IllegalArgumentException("등록되지 않은 회원입니다. \n 확인 후 다시 입력해주세요.");
                 });
 
-        // 2. 책 정보 조회 (select * from book where book.name = ?)
-        Book book = bookRepository.findByName(request.getBookName())
+        // 2. 책 ID 조회 (이름 → ID 캐시, 없으면 select id from book where book.name = ?)
+        Long bookId = nameIdCache.bookId(request.getBookName())
                 .orElseThrow(() -> {
                     log.warn("[도서 대출 실패] 존재하지 않는 도서: {}", request.getBookName());
                     return new IllegalArgumentException("등록되지 않은 책입니다. \n 확인 후 다시 입력해주세요.");
                 });
 
         // 3. 책 대출 기록 조회 (반납한 경우 true(1) => 책 대출, 반납되지 않은 경우(대출중인 경우) false(0) => 예외 처리)
-        if (userLoanHistoryRepository.existsByBookIdAndIsReturn(book.getId(), false)) {
+        // 대출 중 인덱스는 힌트: 대출 중이 아니면 DB 조회 생략(중복 대출은 unique 제약이 거부), 대출 중이거나 구성 전이면 DB로 확인
+        boolean loaned = activeLoanIndex.isBookLoaned(bookId).orElse(true)
+                && userLoanHistoryRepository.existsByBookIdAndIsReturn(bookId, false);
+        if (loaned) {
             log.warn("[도서 대출 실패] 이미 대출 중인 책: {}", request.getBookName());
             throw new IllegalArgumentException("죄송합니다. \n해당 책은 현재 대출 중입니다.");
         }
 
-        // 4. 책 대출
-        user.loanBook(book);
+        // 4. 책 대출: 회원/도서는 ID만 가진 참조(프록시)로 대출 기록 저장 → 엔티티 조회 없이 INSERT 1회
+        // (user.loanBook(book)은 회원 프록시를 초기화하므로 SELECT가 추가됨, 삭제된 회원/도서면 FK 제약으로 거부)
+        userLoanHistoryRepository.save(new UserLoanHistory(userRepository.getReferenceById(userId), bookRepository.getReferenceById(bookId)));
+        activeLoanIndex.loaned(userId, bookId); // 커밋 후 대출 중 인덱스 반영
+        entityCounterService.increment(EntityCounter.ACTIVE_LOAN); // 커밋 후 대출 중 건수 +1
+        collectionVersionService.bump(CollectionVersion.LOANS); // 커밋 후 대출 목록 버전 +1
         log.info("[도서 대출 성공]");
 
         /*
@@ -146,15 +220,15 @@ public class BookService {
             throw new IllegalArgumentException("책 이름은 필수입니다.");
         }
 
-        // 1. 유저 정보 조회 (select * from user where user.name = ?)
-        Long userId = userRepository.findIdByName(request.getUserName())
+        // 1. 회원 ID 조회 (이름 → ID 캐시, 없으면 select id from user where user.name = ?)
+        Long userId = nameIdCache.userId(request.getUserName())
                 .orElseThrow(() -> {
                     log.warn("[도서 반납 실패] 존재하지 않는 회원: {}", request.getUserName());
                     return new IllegalArgumentException("등록되지 않은 회원입니다. \n 확인 후 다시 입력해주세요.");
                 });
 
-        // 2. 책 정보 조회 (select * from book where book.name = ?)
-        Long bookId = bookRepository.findIdByName(request.getBookName())
+        // 2. 책 ID 조회 (이름 → ID 캐시)
+        Long bookId = nameIdCache.bookId(request.getBookName())
                 .orElseThrow(() -> {
                     log.warn("[도서 반납 실패} 존재하지 않는 도서: {}", request.getBookName());
                     return new IllegalArgumentException("등록되지 않은 책입니다. \n 확인 후 다시 입력해주세요.");
@@ -169,6 +243,9 @@ public class BookService {
                 });
 
         loanHistory.doReturn();
+        activeLoanIndex.returned(userId, bookId); // 커밋 후 대출 중 인덱스 반영
+        entityCounterService.decrement(EntityCounter.ACTIVE_LOAN); // 커밋 후 대출 중 건수 -1
+        collectionVersionService.bump(CollectionVersion.LOANS);
         log.info("[도서 반납 성공]");
 
         /*
@@ -195,4 +272,142 @@ public class BookService {
         */
     }
 
+    // 일괄 대출: 회원/도서 ID는 이름 → ID 캐시(없는 도서만 IN 조회 1회) + 대출 중 여부 확인 후 대출 기록을 한 트랜잭션에 저장
+    // 대출할 수 없는 도서는 건너뛰고 도서별 결과로 알려줌 (회원 누락/미등록 등 요청 전체 오류만 예외)
+    @Transactional
+    public BookBatchResponse loanBooks(BookLoanBatchRequest request) {
+        List<String> bookNames = validateBatch(request.getUserName(), request.getBookNames(), "대출");
+        log.info("[도서 일괄 대출 요청] 회원: {}, 요청: {}권", request.getUserName(), bookNames.size());
+
+        Long userId = nameIdCache.userId(request.getUserName())
+                .orElseThrow(() -> {
+                    log.warn("[도서 일괄 대출 실패] 존재하지 않는 회원: {}", request.getUserName());
+                    return new IllegalArgumentException("등록되지 않은 회원입니다. \n 확인 후 다시 입력해주세요.");
+                });
+
+        Map<String, Long> bookIds = nameIdCache.bookIds(distinctNames(bookNames));
+
+        // 대출 중 인덱스는 힌트: 대출 중이거나 구성 전이라 알 수 없는 도서만 IN 조회 1회로 DB 확인
+        Set<Long> loanedBookIds = new HashSet<>();
+        List<Long> uncheckedBookIds = new ArrayList<>();
+        for (Long bookId : bookIds.values()) {
+            if (activeLoanIndex.isBookLoaned(bookId).orElse(true)) {
+                uncheckedBookIds.add(bookId);
+            }
+        }
+        if (!uncheckedBookIds.isEmpty()) {
+            loanedBookIds.addAll(userLoanHistoryRepository.findLoanedBookIds(uncheckedBookIds));
+        }
+
+        List<BookBatchResponse.ItemResult> results = new ArrayList<>(bookNames.size());
+        List<UserLoanHistory> loans = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String bookName : bookNames) {
+            Long bookId = bookIds.get(bookName);
+            String reason = itemError(bookName, seen, bookId);
+            if (reason == null && loanedBookIds.contains(bookId)) {
+                reason = "해당 책은 현재 대출 중입니다.";
+            }
+            if (reason != null) {
+                results.add(new BookBatchResponse.ItemResult(bookName, false, reason));
+                continue;
+            }
+
+            // 단건 대출과 같이 회원/도서는 ID만 가진 참조(프록시)로 저장 → 엔티티 조회 없이 INSERT만 실행
+            loans.add(new UserLoanHistory(userRepository.getReferenceById(userId), bookRepository.getReferenceById(bookId)));
+            activeLoanIndex.loaned(userId, bookId);
+            results.add(new BookBatchResponse.ItemResult(bookName, true, null));
+        }
+        userLoanHistoryRepository.saveAll(loans); // 미리 채번된 ID로 커밋 시 INSERT를 JDBC 배치로 전송
+
+        int loanedCount = loans.size();
+        if (loanedCount > 0) {
+            entityCounterService.add(EntityCounter.ACTIVE_LOAN, loanedCount); // 커밋 후 대출 중 건수/목록 버전을 요청당 한 번 반영
+            collectionVersionService.bump(CollectionVersion.LOANS);
+        }
+        log.info("[도서 일괄 대출 완료] 회원: {}, 요청: {}권, 대출: {}권", request.getUserName(), bookNames.size(), loanedCount);
+        return new BookBatchResponse(bookNames.size(), loanedCount, results);
+    }
+
+    // 일괄 반납: 회원/도서 ID는 이름 → ID 캐시(없는 도서만 IN 조회 1회) + 해당 회원의 대출 중 기록 IN 조회 1회
+    @Transactional
+    public BookBatchResponse returnBooks(BookReturnBatchRequest request) {
+        List<String> bookNames = validateBatch(request.getUserName(), request.getBookNames(), "반납");
+        log.info("[도서 일괄 반납 요청] 회원: {}, 요청: {}권", request.getUserName(), bookNames.size());
+
+        Long userId = nameIdCache.userId(request.getUserName())
+                .orElseThrow(() -> {
+                    log.warn("[도서 일괄 반납 실패] 존재하지 않는 회원: {}", request.getUserName());
+                    return new IllegalArgumentException("등록되지 않은 회원입니다. \n 확인 후 다시 입력해주세요.");
+                });
+
+        Map<String, Long> bookIds = nameIdCache.bookIds(distinctNames(bookNames));
+        Map<Long, UserLoanHistory> activeLoans = bookIds.isEmpty() ? Map.of() : userLoanHistoryRepository
+                .findByUserIdAndBookIdInAndIsReturnFalse(userId, bookIds.values())
+                .stream()
+                .collect(Collectors.toMap(history -> history.getBook().getId(), Function.identity(), (first, second) -> first));
+
+        List<BookBatchResponse.ItemResult> results = new ArrayList<>(bookNames.size());
+        Set<String> seen = new HashSet<>();
+        int returnedCount = 0;
+        for (String bookName : bookNames) {
+            Long bookId = bookIds.get(bookName);
+            String reason = itemError(bookName, seen, bookId);
+            UserLoanHistory loanHistory = reason == null ? activeLoans.get(bookId) : null;
+            if (reason == null && loanHistory == null) {
+                reason = "해당 책을 대출한 기록이 없습니다.";
+            }
+            if (reason != null) {
+                results.add(new BookBatchResponse.ItemResult(bookName, false, reason));
+                continue;
+            }
+
+            loanHistory.doReturn(); // 변경 감지 UPDATE도 커밋 시 배치로 전송
+            activeLoanIndex.returned(userId, bookId);
+            results.add(new BookBatchResponse.ItemResult(bookName, true, null));
+            returnedCount++;
+        }
+
+        if (returnedCount > 0) {
+            entityCounterService.add(EntityCounter.ACTIVE_LOAN, -returnedCount);
+            collectionVersionService.bump(CollectionVersion.LOANS);
+        }
+        log.info("[도서 일괄 반납 완료] 회원: {}, 요청: {}권, 반납: {}권", request.getUserName(), bookNames.size(), returnedCount);
+        return new BookBatchResponse(bookNames.size(), returnedCount, results);
+    }
+
+    private static List<String> validateBatch(String userName, List<String> bookNames, String action) {
+        if (userName == null || userName.trim().isEmpty()) {
+            throw new IllegalArgumentException("회원명은 필수입니다.");
+        }
+        if (bookNames == null || bookNames.isEmpty()) {
+            throw new IllegalArgumentException(action + "할 책이 없습니다.");
+        }
+        if (bookNames.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 " + action + "할 수 있는 책은 " + MAX_BATCH_SIZE + "권까지입니다.");
+        }
+        return bookNames;
+    }
+
+    // 도서별 공통 검증: 이름 누락, 요청 안 중복, 미등록 도서 (정상이면 null)
+    private static String itemError(String bookName, Set<String> seen, Long bookId) {
+        if (bookName == null || bookName.trim().isEmpty()) {
+            return "책 이름은 필수입니다.";
+        }
+        if (!seen.add(bookName)) {
+            return "요청 안에 같은 책이 있습니다.";
+        }
+        if (bookId == null) {
+            return "등록되지 않은 책입니다.";
+        }
+        return null;
+    }
+
+    static List<String> distinctNames(List<String> bookNames) {
+        return bookNames.stream()
+                .filter(name -> name != null && !name.trim().isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
 }
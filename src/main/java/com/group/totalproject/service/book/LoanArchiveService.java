@@ -0,0 +1,165 @@
+package com.group.totalproject.service.book;
+
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.counter.CollectionVersion;
+import com.group.totalproject.counter.CollectionVersionService;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryArchiveRepository;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import com.group.totalproject.dto.book.response.LoanResponse;
+import com.group.totalproject.prop.LoanArchiveProps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반납 완료 대출 기록 보관 (user_loan_history → user_loan_history_archive)
+ *  - 반납 후 loan.archive.age가 지난 기록을 chunkSize건씩 옮김: 청크마다 복사 + 삭제를 한 트랜잭션으로 커밋
+ *  - 청크 사이에는 pause 이상, 처리 시간 비례(dutyCycle)만큼 쉬어 대출/반납 요청과 DB를 다투지 않음
+ *  - 여러 노드 중 한 곳에서만 실행 (Redis 락), 1회 실행은 maxRunTime까지
+ * 대출 중 기록은 옮기지 않으므로 대출 중 인덱스/카운터에는 영향이 없다.
+ * 보관된 기록은 GET /book/archive로 명시적으로 조회한다.
+ */
+@Slf4j
+@Service
+public class LoanArchiveService {
+
+    private static final String ARCHIVE_LOCK_KEY = "lock:loan-archive";
+
+    private final UserLoanHistoryRepository userLoanHistoryRepository;
+    private final UserLoanHistoryArchiveRepository userLoanHistoryArchiveRepository;
+    private final NameIdCache nameIdCache;
+    private final CollectionVersionService collectionVersionService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LoanArchiveProps props;
+    private final TransactionTemplate chunkTransaction; // 청크마다 별도 트랜잭션 (잠금을 짧게 유지)
+
+    public LoanArchiveService(UserLoanHistoryRepository userLoanHistoryRepository,
+                              UserLoanHistoryArchiveRepository userLoanHistoryArchiveRepository,
+                              NameIdCache nameIdCache, CollectionVersionService collectionVersionService,
+                              StringRedisTemplate stringRedisTemplate, LoanArchiveProps props,
+                              PlatformTransactionManager transactionManager) {
+        this.userLoanHistoryRepository = userLoanHistoryRepository;
+        this.userLoanHistoryArchiveRepository = userLoanHistoryArchiveRepository;
+        this.nameIdCache = nameIdCache;
+        this.collectionVersionService = collectionVersionService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.props = props;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // 보관된 대출 기록 커서 페이징 (GET /book과 같은 형식)
+    // 회원/도서 이름은 현재 이름으로 ID를 찾아 조회하고, 찾을 수 없으면(삭제/이름 변경) 보관 시점 이름으로 조회
+    @Transactional(readOnly = true)
+    public List<LoanResponse> getArchivedLoans(Long cursor, int size, String userName, String bookName) {
+        userName = blankToNull(userName);
+        bookName = blankToNull(bookName);
+        Long userId = userName != null ? nameIdCache.userId(userName).orElse(null) : null;
+        Long bookId = bookName != null ? nameIdCache.bookId(bookName).orElse(null) : null;
+
+        return userLoanHistoryArchiveRepository.findLoanResponses(
+                cursor != null ? cursor : Long.MAX_VALUE,
+                userId,
+                userId == null ? userName : null,
+                bookId,
+                bookId == null ? bookName : null,
+                PageRequest.of(0, size));
+    }
+
+    // 기본 1시간마다 실행 (기동 직후 트래픽과 겹치지 않도록 첫 실행은 10분 후)
+    @Scheduled(fixedDelayString = "${loan.archive.interval-ms:3600000}", initialDelayString = "${loan.archive.initial-delay-ms:600000}")
+    public void archive() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        try {
+            // 락은 1회 실행 최대 시간보다 길게 유지 (노드가 중간에 종료되어도 이후 자동 해제)
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(ARCHIVE_LOCK_KEY, "1", props.getMaxRunTime().plusMinutes(1));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[대출 기록 보관 건너뜀] 락 확인 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            archiveReturnedLoans();
+        } finally {
+            try {
+                stringRedisTemplate.delete(ARCHIVE_LOCK_KEY);
+            } catch (DataAccessException e) {
+                log.warn("[대출 기록 보관 락 해제 실패] 이유: {}", e.getMessage()); // 락 TTL이 지나면 자동 해제됨
+            }
+        }
+    }
+
+    private void archiveReturnedLoans() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(props.getAge());
+        long deadline = System.nanoTime() + props.getMaxRunTime().toNanos();
+        long afterId = 0;
+        long archived = 0;
+        int chunks = 0;
+
+        try {
+            while (System.nanoTime() < deadline) {
+                List<Long> ids = userLoanHistoryRepository.findArchivableIds(afterId, cutoff, props.getChunkSize());
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                long start = System.nanoTime();
+                Integer moved = chunkTransaction.execute(status -> {
+                    int copied = userLoanHistoryArchiveRepository.copyReturnedLoans(ids, LocalDateTime.now());
+                    int deleted = userLoanHistoryRepository.deleteReturnedLoans(ids);
+                    if (copied != deleted) { // 조회 이후 상태가 바뀐 기록이 있으면 이번 청크는 되돌리고 다음 실행에서 다시 처리
+                        throw new IllegalStateException("보관 건수 불일치: 복사 " + copied + "건, 삭제 " + deleted + "건");
+                    }
+                    return deleted;
+                });
+                archived += moved != null ? moved : 0;
+                chunks++;
+                afterId = ids.get(ids.size() - 1);
+
+                if (ids.size() < props.getChunkSize()) {
+                    break; // 마지막 청크
+                }
+                throttle(System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[대출 기록 보관 중단] 종료 요청");
+        } catch (RuntimeException e) {
+            log.error("[대출 기록 보관 실패] 마지막 대출 ID: {}, 이유: {}", afterId, e.getMessage()); // 커밋된 청크는 유지, 나머지는 다음 실행에서 처리
+        }
+
+        if (archived > 0) {
+            collectionVersionService.bump(CollectionVersion.LOANS); // 보관된 기록은 대출 목록(GET /book)에서 빠짐
+            log.info("[대출 기록 보관 완료] 기준: {} 이전 반납, 보관: {}건, 청크: {}회", cutoff, archived, chunks);
+        }
+    }
+
+    // 청크 처리 시간에 비례해 대기: 처리 시간 비율이 dutyCycle을 넘지 않도록 함 (최소 pause)
+    private void throttle(long chunkNanos) throws InterruptedException {
+        double dutyCycle = Math.min(1.0, Math.max(0.01, props.getDutyCycle()));
+        long proportionalNanos = (long) (chunkNanos * (1 - dutyCycle) / dutyCycle);
+        Duration sleep = Duration.ofNanos(Math.max(props.getPause().toNanos(), proportionalNanos));
+        Thread.sleep(sleep.toMillis());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.group.totalproject.service.book;
+
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import com.group.totalproject.dto.book.request.BookLoanBatchRequest;
+import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.dto.book.request.BookReturnBatchRequest;
+import com.group.totalproject.dto.book.request.BookReturnRequest;
+import com.group.totalproject.dto.book.response.BookBatchResponse;
+import com.group.totalproject.prop.LoanProps;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 대출/반납 동시성 제어
+ *  - 노드 안: 도서 ID별 스트라이프 락으로 같은 도서의 대출/반납만 순서대로 실행 (다른 도서는 서로 기다리지 않음)
+ *    락은 트랜잭션 커밋(대출 중 인덱스 반영 포함)이 끝난 뒤 해제하므로, 다음 요청은 항상 커밋된 상태를 확인함
+ *  - 일괄 대출/반납: 요청에 포함된 도서의 스트라이프를 번호 오름차순으로 모두 잡은 뒤 한 트랜잭션으로 처리
+ *  - 노드 간: user_loan_history.active_book_id 유니크 제약으로 도서당 대출 중 기록 1건 보장
+ *    (행 잠금(SELECT ... FOR UPDATE) 없이 INSERT 시점에 DB가 중복을 거부)
+ */
+@Slf4j
+@Service
+public class LoanEngine {
+
+    public static final String ACTIVE_BOOK_CONSTRAINT = "uk_user_loan_history_active_book";
+
+    private static final String ALREADY_LOANED_MESSAGE = "죄송합니다. \n해당 책은 현재 대출 중입니다.";
+
+    private final BookService bookService;
+    private final NameIdCache nameIdCache;
+    private final UserLoanHistoryRepository userLoanHistoryRepository;
+    private final LoanProps props;
+    private final ReentrantLock[] stripes;
+
+    public LoanEngine(BookService bookService, NameIdCache nameIdCache,
+                      UserLoanHistoryRepository userLoanHistoryRepository, LoanProps props) {
+        this.bookService = bookService;
+        this.nameIdCache = nameIdCache;
+        this.userLoanHistoryRepository = userLoanHistoryRepository;
+        this.props = props;
+
+        int size = Integer.highestOneBit(Math.max(1, props.getLockStripes() - 1)) << 1; // 2의 거듭제곱으로 올림 (비트 연산으로 위치 계산)
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public void loanBook(BookLoanRequest request) {
+        withBookLock(request.getBookName(), () -> {
+            try {
+                bookService.loanBook(request); // 트랜잭션 커밋까지 락 안에서 실행
+            } catch (DataIntegrityViolationException e) {
+                if (!isActiveBookViolation(e)) {
+                    // 이름 → ID 캐시에 남은 삭제된 회원/도서 ID로 저장하여 FK 제약이 거부한 경우 (다른 노드의 제거 메시지 유실 등)
+                    nameIdCache.evictUser(request.getUserName());
+                    nameIdCache.evictBook(request.getBookName());
+                    throw e;
+                }
+                // 다른 노드에서 같은 도서를 먼저 대출하여 DB가 중복 대출 기록을 거부한 경우
+                log.warn("[도서 대출 실패] 다른 요청이 먼저 대출: {}", request.getBookName());
+                throw new IllegalArgumentException(ALREADY_LOANED_MESSAGE);
+            }
+            return null;
+        });
+    }
+
+    public void returnBook(BookReturnRequest request) {
+        withBookLock(request.getBookName(), () -> {
+            bookService.returnBook(request);
+            return null;
+        });
+    }
+
+    public BookBatchResponse loanBooks(BookLoanBatchRequest request) {
+        return withBookLocks(request.getBookNames(), () -> {
+            try {
+                return bookService.loanBooks(request); // 모든 도서의 락을 잡은 채 한 트랜잭션으로 커밋
+            } catch (DataIntegrityViolationException e) {
+                if (!isActiveBookViolation(e)) {
+                    // 단건 대출과 같이 이름 → ID 캐시에 남은 삭제된 회원/도서 ID로 저장한 경우
+                    nameIdCache.evictUser(request.getUserName());
+                    BookService.distinctNames(request.getBookNames()).forEach(nameIdCache::evictBook);
+                    throw e;
+                }
+                // 다른 노드에서 일부 도서를 먼저 대출 → 트랜잭션 전체가 롤백되므로 요청 전체를 다시 시도하도록 안내
+                log.warn("[도서 일괄 대출 실패] 다른 요청이 먼저 대출: 회원 {}", request.getUserName());
+                throw new IllegalArgumentException("다른 곳에서 먼저 대출된 책이 있어 대출하지 못했습니다. \n다시 시도해주세요.");
+            }
+        });
+    }
+
+    public BookBatchResponse returnBooks(BookReturnBatchRequest request) {
+        return withBookLocks(request.getBookNames(), () -> bookService.returnBooks(request));
+    }
+
+    // active_book_id 컬럼 추가 전에 대출된 기록에도 유니크 제약이 적용되도록 기동 시 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillActiveBookIds() {
+        try {
+            int updated = userLoanHistoryRepository.backfillActiveBookIds();
+            long duplicated = userLoanHistoryRepository.countDuplicatedActiveLoans();
+            if (updated > 0 || duplicated > 0) {
+                log.info("[대출 중 기록 active_book_id 채움] {}건, 대출 중 기록이 2건 이상인 도서: {}권", updated, duplicated);
+            }
+        } catch (DataAccessException e) {
+            log.error("[대출 중 기록 active_book_id 채움 실패] 이유: {}", e.getMessage());
+        }
+    }
+
+    private <T> T withBookLock(String bookName, Supplier<T> task) {
+        if (bookName == null || bookName.trim().isEmpty()) {
+            return task.get(); // 입력 검증은 BookService에서 처리
+        }
+
+        Long bookId = nameIdCache.bookId(bookName).orElse(null); // BookService와 같은 캐시 항목을 사용하므로 락 대상 조회가 추가되지 않음
+        if (bookId == null) {
+            return task.get(); // 존재하지 않는 도서 예외는 BookService에서 처리
+        }
+
+        ReentrantLock lock = stripeFor(bookId);
+        if (!tryLock(lock)) {
+            log.warn("[도서 락 대기 시간 초과] 도서 ID: {}", bookId);
+            throw new IllegalArgumentException("요청이 많아 처리하지 못했습니다. \n잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 여러 도서의 락: 스트라이프 번호 오름차순으로 잡아 일괄 요청끼리 교착되지 않도록 함 (같은 스트라이프는 한 번만)
+    private <T> T withBookLocks(List<String> bookNames, Supplier<T> task) {
+        if (bookNames == null || bookNames.isEmpty() || bookNames.size() > BookService.MAX_BATCH_SIZE) {
+            return task.get(); // 입력 검증은 BookService에서 처리
+        }
+
+        List<String> names = BookService.distinctNames(bookNames);
+        int[] indexes = names.isEmpty() ? new int[0] : nameIdCache.bookIds(names).values().stream() // BookService와 같은 캐시 항목 사용
+                .mapToInt(LoanEngine::hashIndexOf)
+                .map(hash -> hash & (stripes.length - 1))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.length);
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!tryLock(lock)) {
+                    log.warn("[도서 락 대기 시간 초과] 일괄 요청: {}권", names.size());
+                    throw new IllegalArgumentException("요청이 많아 처리하지 못했습니다. \n잠시 후 다시 시도해주세요.");
+                }
+                acquired.add(lock);
+            }
+            return task.get();
+        } finally {
+            for (int i = acquired.size() - 1; i >= 0; i--) {
+                acquired.get(i).unlock();
+            }
+        }
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(props.getLockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대출/반납 처리가 중단되었습니다.", e);
+        }
+    }
+
+    private ReentrantLock stripeFor(long bookId) {
+        return stripes[hashIndexOf(bookId) & (stripes.length - 1)];
+    }
+
+    private static int hashIndexOf(long bookId) {
+        long hash = bookId * 0x9E3779B97F4A7C15L; // 연속된 ID가 이웃한 락에 몰리지 않도록 섞음
+        return (int) (hash >>> 32);
+    }
+
+    // Hibernate가 DB 오류에서 추출한 제약 이름으로만 판단 (H2는 대문자 + 인덱스 접미사가 붙으므로 포함 여부로 비교)
+    private static boolean isActiveBookViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(ACTIVE_BOOK_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.group.totalproject.service.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.repository.user.UserJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+@Slf4j
+@Service
+public class UserExportService { // 회원 전체 내보내기(NDJSON / CSV 스트리밍)
+
+    private static final int FLUSH_INTERVAL = 1000; // 1000건마다 클라이언트로 flush
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public UserExportService(UserJdbcRepository userJdbcRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${export.user.fetch-size:1000}") int fetchSize) { // MySQL 외 DB에서 사용할 fetch size
+        this.userJdbcRepository = userJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public static boolean isSupportedFormat(String format) {
+        return "ndjson".equals(format) || "csv".equals(format);
+    }
+
+    // fromId 이후의 회원을 id 오름차순으로 writer에 기록하고 기록한 건수 반환
+    // 중단된 경우 마지막으로 받은 id를 fromId로 다시 요청하면 이어받을 수 있음
+    public long export(String format, long fromId, Writer writer) throws IOException {
+        if (!isSupportedFormat(format)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+
+        boolean csv = "csv".equals(format);
+        if (csv) {
+            writer.write("id,name,age\n");
+        }
+
+        long[] count = {0};
+        try {
+            userJdbcRepository.streamUsers(fromId, fetchSize, user -> {
+                try {
+                    writer.write(csv ? toCsvLine(user) : toJsonLine(user));
+                    if (++count[0] % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 시 조회 중단
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("[회원 내보내기 중단] 기록 건수: {}, 이유: {}", count[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("[회원 내보내기 완료] 형식: {}, fromId: {}, 건수: {}", format, fromId, count[0]);
+        return count[0];
+    }
+
+    private String toJsonLine(UserResponse user) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(user) + "\n";
+    }
+
+    private String toCsvLine(UserResponse user) {
+        return user.getId() + "," + escapeCsv(user.getName()) + "," + (user.getAge() == null ? "" : user.getAge()) + "\n";
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.group.totalproject.service.user;
+
+import com.group.totalproject.cache.user.UserBulkChangeEvent;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.dto.user.request.UserCreateRequest;
+import com.group.totalproject.dto.user.response.UserImportResponse;
+import com.group.totalproject.repository.user.UserJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 회원 일괄 등록 (POST /user/batch JSON, POST /user/import CSV)
+ *  1. 행 형식 검증: 병렬 처리 (POST /user와 같은 규칙)
+ *  2. 이름 중복: 요청 안의 중복은 첫 행만 등록, DB 중복은 IN 조회(1,000건 단위)로 한 번에 확인
+ *  3. 등록: JDBC 배치 INSERT
+ *  4. 캐시: 건별 반영 대신 커밋 후 회원 캐시를 한 번 무효화, 회원 수/목록 버전도 배치당 한 번 반영
+ * 형식 오류나 중복인 행은 건너뛰고 결과(failures)로 알려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    public static final int MAX_ROWS = 100_000; // 요청 1회 최대 행 수
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z가-힣]+[0-9]*$"); // UserServiceV2.saveUser와 같은 규칙
+    private static final int NAME_MAX_LENGTH = 20; // user.name 컬럼 길이
+    private static final int NAME_QUERY_CHUNK_SIZE = 1_000; // IN 조건 1회 최대 이름 수
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public UserImportResponse importUsers(List<UserCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 회원이 없습니다.");
+        }
+
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequest request = requests.get(i);
+            rows.add(new Row(i + 1, request.getName(), request.getAge() != null ? request.getAge().toString() : null));
+        }
+        return importRows(rows);
+    }
+
+    // CSV: name,age (첫 줄이 "name,age" 헤더이면 건너뜀, UTF-8)
+    @Transactional
+    public UserImportResponse importCsv(InputStream csv) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1); // UTF-8 BOM (Excel에서 저장한 파일): 헤더가 없어도 첫 행 이름에 남지 않도록 제거
+                }
+                if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase("name,age"))) {
+                    continue;
+                }
+                if (rows.size() == MAX_ROWS) {
+                    throw new IllegalArgumentException("한 번에 등록할 수 있는 회원은 " + MAX_ROWS + "명까지입니다.");
+                }
+                String[] columns = line.split(",", -1);
+                rows.add(new Row(lineNumber, columns[0].trim(), columns.length > 1 ? columns[1].trim() : null));
+            }
+        }
+
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("등록할 회원이 없습니다.");
+        }
+        return importRows(rows);
+    }
+
+    private UserImportResponse importRows(List<Row> rows) {
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 회원은 " + MAX_ROWS + "명까지입니다.");
+        }
+
+        // 1. 형식 검증 (행끼리 독립적이므로 병렬 처리, 결과 순서는 행 순서와 동일)
+        List<String> formatErrors = rows.parallelStream()
+                .map(UserImportService::validate)
+                .collect(Collectors.toList());
+
+        List<UserImportResponse.RowError> failures = new ArrayList<>();
+        Map<String, Row> candidates = new LinkedHashMap<>(); // 이름 → 등록 대상 행 (요청 안에서 처음 나온 행)
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (formatErrors.get(i) != null) {
+                failures.add(new UserImportResponse.RowError(row.number, row.name, formatErrors.get(i)));
+            } else if (candidates.putIfAbsent(row.name, row) != null) {
+                failures.add(new UserImportResponse.RowError(row.number, row.name, "요청 안에 같은 이름이 있습니다."));
+            }
+        }
+
+        // 2. DB 중복 검사: 이름 1,000개씩 IN 조회
+        Set<String> existingNames = findExistingNames(candidates.keySet());
+        List<Object[]> inserts = new ArrayList<>(candidates.size());
+        for (Row row : candidates.values()) {
+            if (existingNames.contains(row.name)) {
+                failures.add(new UserImportResponse.RowError(row.number, row.name, "이미 존재하는 이름입니다."));
+            } else {
+                inserts.add(new Object[]{row.name, Integer.parseInt(row.age)});
+            }
+        }
+
+        // 3. JDBC 배치 등록 + 커밋 후 카운터/버전/캐시를 배치당 한 번 반영 (UserCacheMaintenanceWorker)
+        if (!inserts.isEmpty()) {
+            userJdbcRepository.saveUsers(inserts, INSERT_BATCH_SIZE);
+            eventPublisher.publishEvent(new UserBulkChangeEvent(inserts.size()));
+        }
+
+        failures.sort(Comparator.comparingInt(UserImportResponse.RowError::getRow));
+        log.info("[회원 일괄 등록 완료] 요청: {}건, 등록: {}건, 실패: {}건", rows.size(), inserts.size(), failures.size());
+        return new UserImportResponse(rows.size(), inserts.size(), failures);
+    }
+
+    private Set<String> findExistingNames(Collection<String> names) {
+        List<String> nameList = new ArrayList<>(names);
+        return IntStream.range(0, (nameList.size() + NAME_QUERY_CHUNK_SIZE - 1) / NAME_QUERY_CHUNK_SIZE)
+                .mapToObj(chunk -> nameList.subList(chunk * NAME_QUERY_CHUNK_SIZE, Math.min(nameList.size(), (chunk + 1) * NAME_QUERY_CHUNK_SIZE)))
+                .flatMap(chunk -> userRepository.findExistingNames(chunk).stream())
+                .collect(Collectors.toSet());
+    }
+
+    // 형식 오류 메시지, 정상이면 null (메시지는 POST /user와 동일)
+    private static String validate(Row row) {
+        if (row.name == null || row.name.trim().isEmpty()) {
+            return "이름은 필수입니다.";
+        }
+        if (!NAME_PATTERN.matcher(row.name).matches()) {
+            return "이름은 영어 또는 한글로 시작해야 하며, 숫자를 포함할 수 있습니다. 단, 띄워쓰기는 사용할 수 없습니다.";
+        }
+        if (row.name.length() > NAME_MAX_LENGTH) {
+            return "이름은 " + NAME_MAX_LENGTH + "자까지 입력할 수 있습니다.";
+        }
+        if (row.age == null || row.age.isEmpty()) {
+            return "나이는 필수입니다.";
+        }
+
+        try {
+            int age = Integer.parseInt(row.age);
+            if (age < 1 || age > 999) {
+                return "나이는 1부터 999까지의 숫자만 입력할 수 있습니다.";
+            }
+        } catch (NumberFormatException e) {
+            return "나이는 숫자만 입력 가능합니다.";
+        }
+        return null;
+    }
+
+    private static class Row { // 입력 1행 (나이는 CSV 문자열 그대로 두고 검증 시 변환)
+
+        private final int number;
+        private final String name;
+        private final String age;
+
+        private Row(int number, String name, String age) {
+            this.number = number;
+            this.name = name;
+            this.age = age;
+        }
+
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.group.totalproject.service.user;
 
+import com.group.totalproject.cache.user.NormalizedUserCache;
+import com.group.totalproject.cache.user.UserChangeEvent;
+import com.group.totalproject.cache.user.UserPageIndex;
+import com.group.totalproject.counter.EntityCounter;
+import com.group.totalproject.counter.EntityCounterService;
 import com.group.totalproject.domain.user.User;
 import com.group.totalproject.domain.user.UserRepository;
 import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
@@ -9,15 +14,14 @@ import com.group.totalproject.dto.user.response.UserResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,14 +32,16 @@ public class UserServiceV2 {
 
     private final UserRepository userRepository; // UserRepository는 JpaRepository를 상속됨
     private final UserLoanHistoryRepository userLoanHistoryRepository;
-    private final RedisTemplate<String, List<UserResponse>> redisTemplate;
-    private final RedisTemplate<String, String> indexRedisTemplate; // 역 인덱스 저장용
+    private final UserPageIndex userPageIndex; // 회원 ID → 페이지 캐시 키 역 인덱스
+    private final NormalizedUserCache normalizedUserCache; // Sorted Set(id) + Hash(회원) 정규화 캐시
+    private final EntityCounterService entityCounterService; // Redis 엔티티 카운터
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 캐시 반영 이벤트 발행
 
     // 아래 있는 함수가 시작될 때 start transaction;을 해준다 (트랜잭션을 시작!)
     // 함수가 예외 없이 잘 끝났다면 commit;
     // 혹시라도 문제가 있다면 rollback; 단 IOException과 같은 Checked Exception은 롤백이 일어나지 않음
     @Transactional
-    public void saveUser(UserCreateRequest request, int pageSize) {
+    public void saveUser(UserCreateRequest request) {
         log.info("[회원 등록 요청] 이름: {}, 나이: {}", request.getName(), request.getAge());
 
         // 이름 검증: null 또는 빈 문자열일 경우 예외 처리
@@ -78,42 +84,25 @@ public class UserServiceV2 {
         User newUser = userRepository.save(new User(request.getName(), request.getAge()));
         log.info("[회원 등록 완료]");
 
-        // 첫 번째 페이지 캐시 키 정의
-        String firstPageCacheKey = "getUsers::users:cursor:0:size:" + pageSize;
-
-        // 첫 번째 페이지 데이터를 Redis에서 조회
-        List<UserResponse> cachedUsers = redisTemplate.opsForValue().get(firstPageCacheKey);
-
-        // 조회된 캐시 데이터가 없으면 종료
-        if (cachedUsers == null || cachedUsers.isEmpty()) {
-            log.info("[첫 페이지 캐시 없음 또는 비어 있음, 캐시 갱신 생략]");
-            return;
-        }
-
-        List<UserResponse> updatedUsers = new ArrayList<>(cachedUsers); // 조회된 캐시 데이터(cachedUsers)를 새 리스트(updatedUsers)에 복사
-        updatedUsers.add(0, new UserResponse(newUser)); // 새로운 사용자(newUser)를 리스트 맨 앞에 추가
-        log.info("[새 사용자 캐시 리스트에 추가 완료]");
-
-        // 기존 만료시간(TTL, 초단위) 조회
-        Long ttlInSeconds = redisTemplate.getExpire(firstPageCacheKey);
-
-        // 기존 만료시간 존재하면 기존 유지, 존재하지 않으면 3분 기본 설정
-        Duration currentTTL = (ttlInSeconds != null && ttlInSeconds > 0)
-                ? Duration.ofSeconds(ttlInSeconds)
-                : Duration.ofMinutes(3);
-
-        // 새로운 데이터로 Redis 캐시 갱신 - set(key, value, duration)
-        redisTemplate.opsForValue().set(firstPageCacheKey, updatedUsers, currentTTL);
+        // 캐시 반영(정규화 캐시, 첫 페이지 캐시, 역 인덱스), 회원 수 +1, 회원 목록 버전 +1은 커밋 후 UserCacheMaintenanceWorker가 처리
+        eventPublisher.publishEvent(UserChangeEvent.created(newUser.getId(), newUser.getName(), newUser.getAge()));
 
     }
 
     // CACHE + CURSOR 기반 페이징 적용
     // @Cacheable: 메서드 실행 결과를 캐시에 저장
     // Cache Aside 전략으로 캐싱 적용 (cacheNames: 캐시 이름을 설정 / key: Redis에 저장할 Key의 이름을 설정(#변수: 매개변수 값) / cacheManager: RedisCacheConfig에서 사용할 cacheManager의 Bean 이름을 지정)
-    @Cacheable(cacheNames = "getUsers", key = "'users:cursor:' + (#cursor ?: '0') + ':size:' + #size", cacheManager = "userCacheManager")
+    // sync: 같은 키의 동시 MISS는 한 번만 조회 (TwoLevelCache가 노드 내 single-flight + 노드 간 Redis 락 + 조기 갱신 처리)
+    @Cacheable(cacheNames = "getUsers", key = "'users:cursor:' + (#cursor ?: '0') + ':size:' + #size", cacheManager = "userCacheManager", sync = true)
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
     public List<UserResponse> getUsersWithCache(Long cursor, int size) {
-        return getUsersByCursor(cursor, size);
+        // 캐시 MISS인 경우에만 실행됨 → 페이지에 포함된 회원들의 역 인덱스 등록
+        List<UserResponse> users = getUsersByCursor(cursor, size);
+        userPageIndex.register(UserPageIndex.pageKey(cursor, size), users);
+        if (cursor == null) {
+            userPageIndex.registerFirstPage(UserPageIndex.pageKey(null, size)); // 새 회원 등록 시 페이지 크기와 관계없이 반영할 첫 페이지 목록
+        }
+        return users;
     }
 
     // CURSOR 기반 페이징 적용
@@ -125,32 +114,54 @@ public class UserServiceV2 {
     private List<UserResponse> getUsersByCursor(Long cursor, int size) {
         // Pageable 객체 생성(JPA 페이징 처리 객체): 한 번에 몇 개의 데이터를 가져올지 (LIMIT ?) 설정하는 역할
         Pageable pageable = PageRequest.of(0, size);  // PageRequest.of(0, size): 0 - 조회 페이지 번호, size - 페이지 당 로우 개수
-        List<User> users;
 
+        // DTO 프로젝션: User 엔티티를 만들지 않고 id, name, age만 조회하여 UserResponse로 바로 반환
         if (cursor == null) { // 처음 조회(첫 페이지 조회)할 때 최신 회원 데이터 size개 가져옴
-            users = userRepository.findTopByOrderByIdDesc(pageable);
-        } else {
-            users = userRepository.findByIdLessThanOrderByIdDesc(cursor, pageable); // IdLessThan: id < cursor 조건을 의미
+            return userRepository.findResponsesOrderByIdDesc(pageable);
         }
+        return userRepository.findResponsesByIdLessThanOrderByIdDesc(cursor, pageable); // IdLessThan: id < cursor 조건을 의미
+    }
 
-        // List<User> → List<UserResponse> 변환
-        return users.stream() // .stream(): 리스트를 스트림으로 변환(데이터를 하나씩 처리할 수 있는 형태로 변환)
-                .map(UserResponse::new) // .map(): 스트림의 각 요소를 다른 값으로 변환할 때 사용 / UserResponse::new 는 user -> new UserResponse(user)와 같은 의미
-                .collect(Collectors.toList()); // 변환된 스트림을 다시 리스트로 변환
+    // 정규화 캐시(Sorted Set + Hash) 기반 페이징 적용: 캐시 적재 전이거나 불일치가 있으면 Optional.empty() 반환
+    public Optional<List<UserResponse>> getUsersFromNormalizedCache(Long cursor, int size) {
+        return normalizedUserCache.findPage(cursor, size);
     }
 
     // OFFSET 기반 페이징 적용
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
     public List<UserResponse> getUsersWithOffset(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        // DTO 프로젝션 + List 반환: findAll(pageable)의 Page와 달리 전체 건수 COUNT 쿼리를 실행하지 않음 (정렬은 쿼리의 ORDER BY u.id DESC)
+        return userRepository.findResponsesOrderByIdDesc(PageRequest.of(page, size));
+    }
 
-        Page<User> usersPage = userRepository.findAll(pageable); // 조회된 사용자 데이터를 List<User> 형태로 가져옴
+    // 이름 접두어 검색: 이름 사전순, after(이전 페이지 마지막 이름) 다음부터 size명 (DB 키셋 페이징)
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션
+    public List<UserResponse> searchUsers(String prefix, String after, int size) {
+        validateNamePrefix(prefix);
+        return userRepository.findResponsesByNamePrefix(prefix, after != null ? after : "", PageRequest.of(0, size));
+    }
 
-        // List<User> → List<UserResponse> 변환 후 반환
-        return usersPage.getContent().stream()
-                .map(UserResponse::new)
-                .collect(Collectors.toList()); // UserResponse 객체들을 다시 리스트 형태로 수집하는 최종연산
+    // 이름 자동완성: Redis 이름 인덱스(ZRANGEBYLEX) 조회, 적재 전이면 DB 조회로 대체 (둘 다 대소문자 구분 없이 같은 순서)
+    @Transactional(readOnly = true) // 읽기 전용 트랜잭션
+    public List<String> autocompleteNames(String prefix, String after, int limit) {
+        validateNamePrefix(prefix);
+        Optional<List<String>> cachedNames = normalizedUserCache.findNamesByPrefix(prefix, after, limit);
+        if (cachedNames.isPresent()) {
+            return cachedNames.get();
+        }
+        String afterName = after != null ? after : "";
+        return userRepository.findNamesByPrefix(NormalizedUserCache.nameKey(prefix), NormalizedUserCache.nameKey(afterName), afterName,
+                PageRequest.of(0, limit));
+    }
 
+    // 검색어는 이름에 쓸 수 있는 문자(영어, 한글, 숫자)만 허용 (LIKE 와일드카드 % _ 차단)
+    private static void validateNamePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 필수입니다.");
+        }
+        if (!prefix.matches("^[a-zA-Z가-힣0-9]{1,20}$")) {
+            throw new IllegalArgumentException("검색어는 영어, 한글, 숫자로 20자까지 입력할 수 있습니다.");
+        }
     }
 
 /*
@@ -225,36 +236,13 @@ public class UserServiceV2 {
                 });
 
         // 5. 회원 이름 변경
+        String previousName = user.getName();
         user.updateName(request.getName());
         log.info("[회원 이름 변경 완료]");
 
-        // 6. Redis에서 해당 회원이 포함된 캐시만 찾아서 수정 수정된 회원의 데이터가 있는 캐시 키를 찾아서 해당 회원 수정 후 레디스에 저장
-        Set<String> cacheKeys = redisTemplate.keys("getUsers::users:cursor:*:size:" + request.getPageSize()); // Redis에 저장된 캐시의 모든 Key값을 조회
-        if (cacheKeys != null) {
-            for (String cacheKey : cacheKeys) {
-                List<UserResponse> cachedUsers = redisTemplate.opsForValue().get(cacheKey); // opsForValue(): key-value의 데이터를 다루기 위한 메서드 / get(key): 해당 키에 해당하는 value값을 가져오는 메소드
-                if (cachedUsers != null) {
-                    boolean updated = false;
-
-                    for (int i = 0; i < cachedUsers.size(); i++) {
-                        UserResponse u = cachedUsers.get(i);
-                        if (Long.valueOf(u.getId()).equals(request.getId())) {
-                            cachedUsers.set(i, new UserResponse(u.getId(), request.getName(), u.getAge())); // 캐시 데이터의 해당 회원 정보 수정
-                            updated = true;
-                        }
-                    }
-
-                    if (updated) {
-                        Long ttlInSeconds = redisTemplate.getExpire(cacheKey);
-                        Duration currentTTL = (ttlInSeconds != null && ttlInSeconds > 0)
-                                ? Duration.ofSeconds(ttlInSeconds)
-                                : Duration.ofMinutes(3);
-
-                        redisTemplate.opsForValue().set(cacheKey, cachedUsers, currentTTL); // 수정된 리스트(cachedUsers)를 기존 TTL을 유지한 채로 다시 Redis에 저장
-                    }
-                }
-            }
-        }
+        // 6. 캐시 반영(정규화 캐시 이름 변경, 역 인덱스로 찾은 페이지 캐시 수정), 회원/대출 목록 버전 +1,
+        //    모든 노드의 변경 전 이름 → ID 항목 제거는 커밋 후 UserCacheMaintenanceWorker가 처리
+        eventPublisher.publishEvent(UserChangeEvent.renamed(user.getId(), request.getName(), previousName));
 
 /*
         // 6. Redis에서 해당 회원이 포함된 캐시만 찾아서 수정
@@ -302,8 +290,8 @@ public class UserServiceV2 {
     }
 
     @Transactional
-    public void deleteUser(String name, int pageSize) {
-        log.info("[회원 삭제 요청] 이름: {}, 페이지 크기: {}", name, pageSize);
+    public void deleteUser(String name) {
+        log.info("[회원 삭제 요청] 이름: {}", name);
 
         // 1. 회원 유무 조회
         User user = userRepository.findByName(name)
@@ -312,9 +300,8 @@ public class UserServiceV2 {
                     return new IllegalArgumentException("존재하지 않는 사용자입니다.");
                 });
 
-        // 2. 회원의 대출 기록 중 반납되지 않은 책이 있는지 확인
-        boolean hasUnreturnedBooks = userLoanHistoryRepository.existsByUserIdAndIsReturnFalse(user.getId());
-        if (hasUnreturnedBooks) {
+        // 2. 회원의 대출 기록 중 반납되지 않은 책이 있는지 확인 (삭제 여부를 결정하므로 대출 중 인덱스가 아닌 DB로 확인)
+        if (userLoanHistoryRepository.existsByUserIdAndIsReturnFalse(user.getId())) {
             log.warn("[삭제 불가 - 대출 중인 책이 있음] 사용자 ID: {}", user.getId());
             throw new IllegalArgumentException("대출 중인 회원은 삭제할 수 없습니다. \n반납 후 다시 시도해주세요.");
         }
@@ -323,24 +310,9 @@ public class UserServiceV2 {
         userRepository.delete(user);
         log.info("[회원 삭제 완료]");
 
-        // 4. 삭제된 회원의 데이터가 있는 캐시 키를 찾아서 해당 회원 삭제 후 레디스에 저장
-        Set<String> cacheKeys = redisTemplate.keys("getUsers::users:cursor:*:size:" + pageSize); // Redis에 저장된 캐시의 모든 Key값을 조회
-        if (cacheKeys != null) {
-            for (String cacheKey : cacheKeys) {
-                List<UserResponse> cachedUsers = redisTemplate.opsForValue().get(cacheKey); // opsForValue(): key-value의 데이터를 다루기 위한 메서드 / get(key): 해당 키에 해당하는 value값을 가져오는 메소드
-                if (cachedUsers != null) {
-                    boolean removed = cachedUsers.removeIf(u -> Long.valueOf(u.getId()).equals(user.getId())); // removeIf(): 조건에 맞는 요소를 리스트에서 제거하는 메소드(true/false로 반환)
-                    if (removed) {
-                        Long ttlInSeconds = redisTemplate.getExpire(cacheKey);
-                        Duration currentTTL = (ttlInSeconds != null && ttlInSeconds > 0)
-                                ? Duration.ofSeconds(ttlInSeconds)
-                                : Duration.ofMinutes(3);
-
-                        redisTemplate.opsForValue().set(cacheKey, cachedUsers, currentTTL); // 수정된 리스트(cachedUsers)를 기존 TTL을 유지한 채로 다시 Redis에 저장
-                    }
-                }
-            }
-        }
+        // 4. 캐시 반영(정규화 캐시 삭제, 역 인덱스로 찾은 페이지 캐시에서 제거, 역 인덱스 삭제), 회원 수 -1,
+        //    회원/대출 목록 버전 +1, 이름 → ID 항목 제거는 커밋 후 UserCacheMaintenanceWorker가 처리
+        eventPublisher.publishEvent(UserChangeEvent.deleted(user.getId(), user.getName()));
 
 /*
         // 삭제된 회원이 포함된 캐시만 찾아서 수정
@@ -414,8 +386,7 @@ public class UserServiceV2 {
 
     }
 
-    @Transactional(readOnly = true)
     public long getUserCount() {
-        return userRepository.count(); // JpaRepository에서 기본 제공하는 메서드
+        return entityCounterService.get(EntityCounter.USER); // Redis 카운터 조회 (COUNT(*) 쿼리 대신 O(1) 조회)
     }
 }
@@ -0,0 +1,86 @@
+-- 회원 페이지 캐시(JSON 배열) 부분 수정: 여러 변경을 한 번의 호출로 원자적으로 반영하고 남은 TTL 유지
+-- KEYS[1]: 페이지 캐시 키 (getUsers::users:cursor:{cursor}:size:{size})
+-- ARGV   : (작업, 회원 ID, 이름, 나이) 4개씩 반복
+--          C = id 내림차순 위치에 추가 (빈 페이지, 이미 포함된 회원, 페이지의 모든 ID보다 작은 회원이면 건너뜀)
+--              (회원 ID는 채번 순서대로 증가하지만 커밋 순서는 다를 수 있으므로 맨 앞이 아닌 정렬 위치에 추가)
+--          R = 이름 변경, D = 삭제
+-- 반환   : 페이지가 없으면 {0}, 있으면 {1, 작업별 반영 여부(1/0) ...}
+local raw = redis.call('GET', KEYS[1])
+if not raw then
+    return {0}
+end
+
+local page = cjson.decode(raw)
+local results = {1}
+local changed = false
+
+-- 새 회원이 들어갈 위치 (id 내림차순 기준, 페이지의 모든 ID보다 작으면 nil)
+local function insertPosition(id)
+    for j, user in ipairs(page) do
+        if user.id < id then
+            return j
+        end
+    end
+    return nil
+end
+
+local function indexOf(id)
+    for j, user in ipairs(page) do
+        if user.id == id then
+            return j
+        end
+    end
+    return nil
+end
+
+for i = 1, #ARGV, 4 do
+    local op, id = ARGV[i], tonumber(ARGV[i + 1])
+    local applied = 0
+
+    if op == 'C' then
+        local position = insertPosition(id)
+        if #page > 0 and position and not indexOf(id) then
+            local age = cjson.null
+            if ARGV[i + 3] ~= '' then
+                age = tonumber(ARGV[i + 3])
+            end
+            table.insert(page, position, {id = id, name = ARGV[i + 2], age = age})
+            applied = 1
+        end
+    elseif op == 'R' then
+        for _, user in ipairs(page) do
+            if user.id == id then
+                user.name = ARGV[i + 2]
+                applied = 1
+            end
+        end
+    elseif op == 'D' then
+        for j = #page, 1, -1 do
+            if page[j].id == id then
+                table.remove(page, j)
+                applied = 1
+            end
+        end
+    end
+
+    if applied == 1 then
+        changed = true
+    end
+    results[#results + 1] = applied
+end
+
+if changed then
+    local encoded = '[]' -- cjson은 빈 테이블을 {}로 인코딩하므로 빈 페이지는 직접 지정
+    if #page > 0 then
+        encoded = cjson.encode(page)
+    end
+
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        redis.call('SET', KEYS[1], encoded, 'PX', ttl)
+    else
+        redis.call('SET', KEYS[1], encoded)
+    end
+end
+
+return results
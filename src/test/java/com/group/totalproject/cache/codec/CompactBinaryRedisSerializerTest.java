@@ -0,0 +1,90 @@
+package com.group.totalproject.cache.codec;
+
+import com.group.totalproject.dto.user.response.UserResponse;
+import com.group.totalproject.prop.UserCacheProps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactBinaryRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private final CompactBinaryRedisSerializer serializer = new CompactBinaryRedisSerializer(
+            new Jackson2JsonRedisSerializer<>(Object.class), COMPRESSION_THRESHOLD, new CacheCodecMetrics(new UserCacheProps()));
+
+    @Test
+    @DisplayName("회원 페이지: id 내림차순/오름차순, null 나이, 한글 이름 복원")
+    void userPageRoundTrip() {
+        List<UserResponse> users = List.of(
+                new UserResponse(1_000_000L, "김철수", 30),
+                new UserResponse(999_998L, "lee2", null),
+                new UserResponse(1_000_005L, "park", 999), // 정렬되지 않은 id (음수 차이값)
+                new UserResponse(1L, "a", 1)
+        );
+
+        Object restored = serializer.deserialize(serializer.serialize(users));
+
+        assertThat(restored).asList().usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(users);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 빈 목록으로 복원")
+    void emptyListRoundTrip() {
+        Object restored = serializer.deserialize(serializer.serialize(List.of()));
+
+        assertThat(restored).asList().isEmpty();
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 값은 압축 후 그대로 복원")
+    void compressedRoundTrip() {
+        List<UserResponse> users = new ArrayList<>();
+        for (long id = 5_000; id > 0; id--) {
+            users.add(new UserResponse(id, "user" + id, (int) (id % 100) + 1));
+        }
+
+        byte[] bytes = serializer.serialize(users);
+
+        assertThat(bytes[0]).isEqualTo(CompactBinaryRedisSerializer.MAGIC);
+        assertThat(bytes[2] & 0x01).isEqualTo(1); // FLAGS: 압축
+        assertThat(serializer.deserialize(bytes)).asList().usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(users);
+    }
+
+    @Test
+    @DisplayName("코덱 전환 전 JSON 항목은 fallback으로 읽음")
+    void readsJsonEntries() {
+        byte[] json = "[{\"id\":1,\"name\":\"kim\",\"age\":20}]".getBytes(StandardCharsets.UTF_8);
+
+        Object restored = serializer.deserialize(json);
+
+        assertThat(restored).asList().singleElement().isInstanceOfSatisfying(Map.class,
+                user -> assertThat(user.get("name")).isEqualTo("kim"));
+    }
+
+    @Test
+    @DisplayName("모르는 포맷 버전은 null(캐시 MISS)")
+    void unknownVersionIsMiss() {
+        byte[] bytes = serializer.serialize(List.of(new UserResponse(1L, "kim", 20)));
+        bytes[1] = (byte) (CompactBinaryRedisSerializer.VERSION + 1);
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 타입은 JSON으로 저장")
+    void unsupportedTypeUsesFallback() {
+        byte[] bytes = serializer.serialize(List.of("a", "b"));
+
+        assertThat(bytes[0]).isNotEqualTo(CompactBinaryRedisSerializer.MAGIC);
+        assertThat(serializer.deserialize(bytes)).asList().containsExactly("a", "b");
+    }
+
+}
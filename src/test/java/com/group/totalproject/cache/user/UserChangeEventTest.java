@@ -0,0 +1,66 @@
+package com.group.totalproject.cache.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserChangeEventTest {
+
+    @Test
+    @DisplayName("등록 후 이름 변경: 바뀐 이름으로 등록 (나이 유지)")
+    void createdThenRenamed() {
+        UserChangeEvent merged = UserChangeEvent.created(1L, "kim", 20)
+                .merge(UserChangeEvent.renamed(1L, "lee", "kim"));
+
+        assertThat(merged.getType()).isEqualTo(UserChangeEvent.Type.CREATED);
+        assertThat(merged.getUserId()).isEqualTo(1L);
+        assertThat(merged.getName()).isEqualTo("lee");
+        assertThat(merged.getAge()).isEqualTo(20);
+        assertThat(merged.getPreviousName()).isNull();
+    }
+
+    @Test
+    @DisplayName("등록 후 삭제: 서로 상쇄되어 null")
+    void createdThenDeleted() {
+        UserChangeEvent merged = UserChangeEvent.created(1L, "kim", 20)
+                .merge(UserChangeEvent.deleted(1L, "kim"));
+
+        assertThat(merged).isNull();
+    }
+
+    @Test
+    @DisplayName("이름 변경 2회: 마지막 이름, 이름 인덱스에서 제거할 이름은 처음 이름")
+    void renamedTwice() {
+        UserChangeEvent merged = UserChangeEvent.renamed(1L, "lee", "kim")
+                .merge(UserChangeEvent.renamed(1L, "park", "lee"));
+
+        assertThat(merged.getType()).isEqualTo(UserChangeEvent.Type.RENAMED);
+        assertThat(merged.getName()).isEqualTo("park");
+        assertThat(merged.getPreviousName()).isEqualTo("kim");
+    }
+
+    @Test
+    @DisplayName("이름 변경 후 삭제: 삭제할 이름은 캐시에 반영되어 있는 처음 이름")
+    void renamedThenDeleted() {
+        UserChangeEvent merged = UserChangeEvent.renamed(1L, "lee", "kim")
+                .merge(UserChangeEvent.deleted(1L, "lee"));
+
+        assertThat(merged.getType()).isEqualTo(UserChangeEvent.Type.DELETED);
+        assertThat(merged.getName()).isNull();
+        assertThat(merged.getPreviousName()).isEqualTo("kim");
+    }
+
+    @Test
+    @DisplayName("등록 → 이름 변경 → 이름 변경: 마지막 이름으로 등록")
+    void createdThenRenamedTwice() {
+        UserChangeEvent merged = UserChangeEvent.created(1L, "kim", null)
+                .merge(UserChangeEvent.renamed(1L, "lee", "kim"))
+                .merge(UserChangeEvent.renamed(1L, "park", "lee"));
+
+        assertThat(merged.getType()).isEqualTo(UserChangeEvent.Type.CREATED);
+        assertThat(merged.getName()).isEqualTo("park");
+        assertThat(merged.getAge()).isNull();
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.group.totalproject.cache.user;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group.totalproject.dto.user.response.UserResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * scripts/user-page-patch.lua를 내장 Redis(실제 redis-server)에서 실행하여 확인
+ */
+class UserPagePatcherIntegrationTest {
+
+    private static final String PAGE_KEY = "getUsers::users:cursor:0:size:3";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static UserPagePatcher userPagePatcher;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        userPagePatcher = new UserPagePatcher(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        // 스크립트 캐시도 비워 매 테스트마다 NOSCRIPT → 등록 → 재실행 경로를 거침
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("C: id 내림차순 위치에 추가, 이미 있거나 페이지의 모든 ID보다 작은 회원은 건너뜀")
+    void created() throws IOException {
+        savePage("[{\"id\":9,\"name\":\"a\",\"age\":10},{\"id\":5,\"name\":\"b\",\"age\":null}]");
+
+        boolean[] applied = patch(
+                UserChangeEvent.created(12, "top", 30),
+                UserChangeEvent.created(7, "middle", null),
+                UserChangeEvent.created(9, "a", 10),
+                UserChangeEvent.created(1, "bottom", 1));
+
+        assertThat(applied).containsExactly(true, true, false, false);
+        assertThat(page()).extracting(UserResponse::getId, UserResponse::getName, UserResponse::getAge)
+                .containsExactly(tuple(12L, "top", 30), tuple(9L, "a", 10), tuple(7L, "middle", null), tuple(5L, "b", null));
+    }
+
+    @Test
+    @DisplayName("R: 페이지에 있는 회원만 이름 변경")
+    void renamed() throws IOException {
+        savePage("[{\"id\":9,\"name\":\"a\",\"age\":10},{\"id\":5,\"name\":\"b\",\"age\":20}]");
+
+        boolean[] applied = patch(UserChangeEvent.renamed(5, "lee", "b"), UserChangeEvent.renamed(4, "x", "y"));
+
+        assertThat(applied).containsExactly(true, false);
+        assertThat(page()).extracting(UserResponse::getId, UserResponse::getName, UserResponse::getAge)
+                .containsExactly(tuple(9L, "a", 10), tuple(5L, "lee", 20));
+    }
+
+    @Test
+    @DisplayName("D: 페이지에 있는 회원만 삭제")
+    void deleted() throws IOException {
+        savePage("[{\"id\":9,\"name\":\"a\",\"age\":10},{\"id\":5,\"name\":\"b\",\"age\":20}]");
+
+        boolean[] applied = patch(UserChangeEvent.deleted(9, "a"), UserChangeEvent.deleted(3, "c"));
+
+        assertThat(applied).containsExactly(true, false);
+        assertThat(page()).extracting(UserResponse::getId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("마지막 회원을 삭제한 페이지는 {}가 아닌 []로 저장")
+    void emptyPageIsEncodedAsArray() {
+        savePage("[{\"id\":9,\"name\":\"a\",\"age\":10}]");
+
+        patch(UserChangeEvent.deleted(9, "a"));
+
+        assertThat(stringRedisTemplate.opsForValue().get(PAGE_KEY)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("수정 후에도 남은 TTL 유지, TTL이 없던 페이지는 계속 TTL 없음")
+    void keepsTtl() {
+        stringRedisTemplate.opsForValue().set(PAGE_KEY, "[{\"id\":9,\"name\":\"a\",\"age\":10}]", 60, TimeUnit.SECONDS);
+        savePage("getUsers::users:cursor:9:size:3", "[{\"id\":5,\"name\":\"b\",\"age\":20}]");
+
+        List<boolean[]> applied = userPagePatcher.patchAll(
+                List.of(PAGE_KEY, "getUsers::users:cursor:9:size:3"),
+                List.of(List.of(UserChangeEvent.renamed(9, "kim", "a")), List.of(UserChangeEvent.renamed(5, "lee", "b"))));
+
+        assertThat(applied).hasSize(2).allSatisfy(result -> assertThat(result).containsExactly(true));
+        assertThat(stringRedisTemplate.getExpire(PAGE_KEY, TimeUnit.MILLISECONDS)).isBetween(50_000L, 60_000L);
+        assertThat(stringRedisTemplate.getExpire("getUsers::users:cursor:9:size:3")).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("페이지가 없으면(만료) null, 변경하지 않은 페이지는 그대로 둠")
+    void missingPage() {
+        savePage("[]");
+
+        List<boolean[]> applied = userPagePatcher.patchAll(
+                List.of("getUsers::users:cursor:0:size:50", PAGE_KEY),
+                List.of(List.of(UserChangeEvent.deleted(1, "a")), List.of(UserChangeEvent.created(1, "a", 1))));
+
+        assertThat(applied.get(0)).isNull();
+        assertThat(applied.get(1)).containsExactly(false); // 빈 페이지에는 추가하지 않음 (다음 조회 때 DB에서 다시 적재)
+        assertThat(stringRedisTemplate.hasKey("getUsers::users:cursor:0:size:50")).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get(PAGE_KEY)).isEqualTo("[]");
+    }
+
+    private static void savePage(String json) {
+        savePage(PAGE_KEY, json);
+    }
+
+    private static void savePage(String key, String json) {
+        stringRedisTemplate.opsForValue().set(key, json);
+    }
+
+    private boolean[] patch(UserChangeEvent... changes) {
+        return userPagePatcher.patchAll(List.of(PAGE_KEY), List.of(Arrays.asList(changes))).get(0);
+    }
+
+    private static List<UserResponse> page() throws IOException {
+        return OBJECT_MAPPER.readValue(stringRedisTemplate.opsForValue().get(PAGE_KEY), new TypeReference<List<UserResponse>>() {
+        });
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.group.totalproject.service.book;
+
+import com.group.totalproject.cache.name.NameIdCache;
+import com.group.totalproject.domain.user.loanhistory.UserLoanHistoryRepository;
+import com.group.totalproject.dto.book.request.BookLoanBatchRequest;
+import com.group.totalproject.dto.book.request.BookLoanRequest;
+import com.group.totalproject.prop.LoanProps;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoanEngineTest {
+
+    private static final BookLoanRequest REQUEST = new BookLoanRequest("kim", "jpa");
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private NameIdCache nameIdCache;
+
+    @Mock
+    private UserLoanHistoryRepository userLoanHistoryRepository;
+
+    private LoanEngine loanEngine;
+
+    @BeforeEach
+    void setUp() {
+        loanEngine = new LoanEngine(bookService, nameIdCache, userLoanHistoryRepository, new LoanProps());
+    }
+
+    @Test
+    @DisplayName("대출 중 기록 유니크 제약 위반: 이미 대출 중 안내 (이름 캐시는 유지)")
+    void duplicateActiveLoan() {
+        when(nameIdCache.bookId("jpa")).thenReturn(Optional.of(1L));
+        doThrow(violation(LoanEngine.ACTIVE_BOOK_CONSTRAINT)).when(bookService).loanBook(REQUEST);
+
+        assertThatThrownBy(() -> loanEngine.loanBook(REQUEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("죄송합니다. \n해당 책은 현재 대출 중입니다.");
+        verify(nameIdCache, never()).evictUser(anyString());
+        verify(nameIdCache, never()).evictBook(anyString());
+    }
+
+    @Test
+    @DisplayName("H2처럼 대문자 + 인덱스 접미사가 붙은 제약 이름도 중복 대출로 판단")
+    void duplicateActiveLoanWithDecoratedConstraintName() {
+        when(nameIdCache.bookId("jpa")).thenReturn(Optional.of(1L));
+        doThrow(violation("PUBLIC.UK_USER_LOAN_HISTORY_ACTIVE_BOOK_INDEX_8")).when(bookService).loanBook(REQUEST);
+
+        assertThatThrownBy(() -> loanEngine.loanBook(REQUEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("죄송합니다. \n해당 책은 현재 대출 중입니다.");
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반(FK 등): 그대로 던지고 이름 → ID 캐시 항목 제거")
+    void otherConstraintViolation() {
+        when(nameIdCache.bookId("jpa")).thenReturn(Optional.of(1L));
+        doThrow(violation("fk_user_loan_history_user")).when(bookService).loanBook(REQUEST);
+
+        assertThatThrownBy(() -> loanEngine.loanBook(REQUEST)).isInstanceOf(DataIntegrityViolationException.class);
+        verify(nameIdCache).evictUser("kim");
+        verify(nameIdCache).evictBook("jpa");
+    }
+
+    @Test
+    @DisplayName("제약 이름 없이 메시지에만 제약 이름이 있으면 중복 대출로 보지 않음")
+    void constraintNameInMessageOnly() {
+        when(nameIdCache.bookId("jpa")).thenReturn(Optional.of(1L));
+        doThrow(new DataIntegrityViolationException("Duplicate entry for key '" + LoanEngine.ACTIVE_BOOK_CONSTRAINT + "'"))
+                .when(bookService).loanBook(REQUEST);
+
+        assertThatThrownBy(() -> loanEngine.loanBook(REQUEST)).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 대출 중 유니크 제약 위반: 요청 전체를 다시 시도하도록 안내")
+    void duplicateActiveLoanInBatch() {
+        BookLoanBatchRequest request = new BookLoanBatchRequest("kim", List.of("jpa", "spring"));
+        when(nameIdCache.bookIds(anyCollection())).thenReturn(Map.of("jpa", 1L, "spring", 2L));
+        when(bookService.loanBooks(any())).thenThrow(violation(LoanEngine.ACTIVE_BOOK_CONSTRAINT));
+
+        assertThatThrownBy(() -> loanEngine.loanBooks(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다른 곳에서 먼저 대출된 책이 있어 대출하지 못했습니다. \n다시 시도해주세요.");
+        verify(nameIdCache, never()).evictUser(anyString());
+    }
+
+    @Test
+    @DisplayName("일괄 대출 중 다른 제약 위반: 그대로 던지고 회원/도서 이름 캐시 항목 제거")
+    void otherConstraintViolationInBatch() {
+        BookLoanBatchRequest request = new BookLoanBatchRequest("kim", List.of("jpa", "spring", "jpa"));
+        when(nameIdCache.bookIds(anyCollection())).thenReturn(Map.of("jpa", 1L, "spring", 2L));
+        when(bookService.loanBooks(any())).thenThrow(violation("fk_user_loan_history_book"));
+
+        assertThatThrownBy(() -> loanEngine.loanBooks(request)).isInstanceOf(DataIntegrityViolationException.class);
+        verify(nameIdCache).evictUser("kim");
+        verify(nameIdCache).evictBook("jpa");
+        verify(nameIdCache).evictBook("spring");
+    }
+
+    // Spring이 Hibernate 제약 위반을 변환한 형태 (DataIntegrityViolationException ← ConstraintViolationException)
+    private static DataIntegrityViolationException violation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException("could not execute statement",
+                new SQLException("constraint violation"), constraintName);
+        return new DataIntegrityViolationException("could not execute statement; constraint [" + constraintName + "]", cause);
+    }
+
+}
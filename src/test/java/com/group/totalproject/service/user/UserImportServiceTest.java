@@ -0,0 +1,156 @@
+package com.group.totalproject.service.user;
+
+import com.group.totalproject.cache.user.UserBulkChangeEvent;
+import com.group.totalproject.domain.user.UserRepository;
+import com.group.totalproject.dto.user.response.UserImportResponse;
+import com.group.totalproject.repository.user.UserJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, userJdbcRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("형식 검증: 행별 오류 메시지는 POST /user와 같고, 정상 행만 등록")
+    void validatesRows() throws IOException {
+        when(userRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        UserImportResponse response = userImportService.importCsv(csv(
+                "kim,20\n" +
+                ",20\n" +
+                "kim lee,20\n" +
+                "1kim,20\n" +
+                "abcdefghijklmnopqrstu,20\n" +
+                "lee,\n" +
+                "park,abc\n" +
+                "choi,0\n" +
+                "jung,1000\n" +
+                "kang\n" +
+                "han99,999\n"));
+
+        assertThat(response.getRequested()).isEqualTo(11);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailures())
+                .extracting(UserImportResponse.RowError::getRow, UserImportResponse.RowError::getReason)
+                .containsExactly(
+                        tuple(2, "이름은 필수입니다."),
+                        tuple(3, "이름은 영어 또는 한글로 시작해야 하며, 숫자를 포함할 수 있습니다. 단, 띄워쓰기는 사용할 수 없습니다."),
+                        tuple(4, "이름은 영어 또는 한글로 시작해야 하며, 숫자를 포함할 수 있습니다. 단, 띄워쓰기는 사용할 수 없습니다."),
+                        tuple(5, "이름은 20자까지 입력할 수 있습니다."),
+                        tuple(6, "나이는 필수입니다."),
+                        tuple(7, "나이는 숫자만 입력 가능합니다."),
+                        tuple(8, "나이는 1부터 999까지의 숫자만 입력할 수 있습니다."),
+                        tuple(9, "나이는 1부터 999까지의 숫자만 입력할 수 있습니다."),
+                        tuple(10, "나이는 필수입니다.")
+                );
+        assertThat(insertedNames()).containsExactly("kim", "han99");
+    }
+
+    @Test
+    @DisplayName("요청 안 중복은 첫 행만, DB에 있는 이름은 건너뜀")
+    void skipsDuplicatedNames() throws IOException {
+        when(userRepository.findExistingNames(anyCollection())).thenReturn(List.of("lee"));
+
+        UserImportResponse response = userImportService.importCsv(csv("kim,20\nlee,30\nkim,40\n"));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailures())
+                .extracting(UserImportResponse.RowError::getRow, UserImportResponse.RowError::getReason)
+                .containsExactly(tuple(2, "이미 존재하는 이름입니다."), tuple(3, "요청 안에 같은 이름이 있습니다."));
+        assertThat(insertedNames()).containsExactly("kim");
+        verify(eventPublisher).publishEvent(any(UserBulkChangeEvent.class));
+    }
+
+    @Test
+    @DisplayName("CSV 헤더(name,age)와 빈 줄은 건너뛰고, 줄 번호는 파일 기준")
+    void skipsHeaderAndBlankLines() throws IOException {
+        when(userRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        UserImportResponse response = userImportService.importCsv(csv("Name,Age\n\nkim,20\n \nlee,abc\n"));
+
+        assertThat(response.getRequested()).isEqualTo(2);
+        assertThat(response.getFailures()).extracting(UserImportResponse.RowError::getRow).containsExactly(5);
+        assertThat(insertedNames()).containsExactly("kim");
+    }
+
+    @Test
+    @DisplayName("BOM + 헤더: 헤더로 인식하여 건너뜀")
+    void skipsHeaderAfterBom() throws IOException {
+        when(userRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        UserImportResponse response = userImportService.importCsv(csv("\uFEFFname,age\r\nkim,20\r\n"));
+
+        assertThat(response.getRequested()).isEqualTo(1);
+        assertThat(response.getFailures()).isEmpty();
+        assertThat(insertedNames()).containsExactly("kim");
+    }
+
+    @Test
+    @DisplayName("BOM + 헤더 없음: 첫 행 이름에 BOM이 남지 않음")
+    void stripsBomWithoutHeader() throws IOException {
+        when(userRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        UserImportResponse response = userImportService.importCsv(csv("\uFEFFkim,20\nlee,30\n"));
+
+        assertThat(response.getFailures()).isEmpty();
+        assertThat(insertedNames()).containsExactly("kim", "lee");
+    }
+
+    @Test
+    @DisplayName("헤더만 있거나 비어 있으면 요청 오류")
+    void rejectsEmptyCsv() {
+        assertThatThrownBy(() -> userImportService.importCsv(csv("name,age\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("등록할 회원이 없습니다.");
+        verify(userJdbcRepository, never()).saveUsers(any(), anyInt());
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> insertedNames() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(userJdbcRepository).saveUsers(rows.capture(), anyInt());
+        return rows.getValue().stream().map(row -> (String) row[0]).toList();
+    }
+
+}